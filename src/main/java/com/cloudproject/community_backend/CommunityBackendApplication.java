@@ -3,9 +3,11 @@ package com.cloudproject.community_backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing  // JPA Auditing 활성화 (CreatedDate, LastModifiedDate)
+@EnableScheduling   // 주기 작업 활성화 (@Scheduled)
 public class CommunityBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,47 @@
+package com.cloudproject.community_backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀 설정
+ * - 요청 스레드와 분리된 고정 크기 풀 + 제한된 큐
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 학생증 이미지 전처리(디코딩/축소/재인코딩) 전용 풀
+     * 이미지 디코딩은 메모리를 많이 쓰므로 동시 실행 수를 작게 제한
+     */
+    @Bean(name = "ocrImageExecutor")
+    public ThreadPoolTaskExecutor ocrImageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("ocr-image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 학생증 인증 작업(OCR 호출 + 결과 반영) 전용 풀
+     * OCR.space 왕복 동안 서블릿 스레드를 붙잡지 않도록 분리
+     */
+    @Bean(name = "ocrVerificationExecutor")
+    public ThreadPoolTaskExecutor ocrVerificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ocr-verify-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
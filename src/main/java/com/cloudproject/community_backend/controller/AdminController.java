@@ -7,17 +7,22 @@ import com.cloudproject.community_backend.dto.ReviewRequest;
 import com.cloudproject.community_backend.entity.ReportStatus;
 import com.cloudproject.community_backend.security.JwtUtil;
 import com.cloudproject.community_backend.service.AdminService;
+import com.cloudproject.community_backend.service.CommentExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 /**
  * 관리자 Controller
  *
@@ -31,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final CommentExportService commentExportService;
     private final JwtUtil jwtUtil;
 
     /**
@@ -164,6 +170,22 @@ public class AdminController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 댓글 전체 내보내기 (NDJSON 스트리밍)
+     * 비동기 요청 타임아웃에 걸리지 않도록 요청 스레드에서 응답 스트림에 바로 기록
+     */
+    @GetMapping("/comments/export")
+    @Operation(summary = "댓글 전체 내보내기", description = "모든 댓글을 id 순으로 한 줄에 하나씩(NDJSON) 스트리밍합니다")
+    public void exportComments(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        verifyAdmin(request);
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"comments.ndjson\"");
+
+        long exported = commentExportService.export(response.getOutputStream());
+        System.out.println("댓글 내보내기 완료: " + exported + "건");
+    }
+
     /**
      * 관리자 권한 확인
      *
@@ -31,7 +31,7 @@ public class BotController {
     @PostMapping("/answer")
     public ResponseEntity<AIAnswerResponse> generateAnswer(@RequestParam Long questionId) {
         // 질문 게시물 조회
-        Post post = postRepository.findById(questionId)
+        Post post = postRepository.findActiveById(questionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "질문을 찾을 수 없습니다."));
 
         // 질문 내용 준비
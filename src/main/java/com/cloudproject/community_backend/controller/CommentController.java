@@ -6,19 +6,25 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import com.cloudproject.community_backend.dto.CommentViewResponse;
+import com.cloudproject.community_backend.dto.CursorPageResponse;
 import com.cloudproject.community_backend.entity.Comment;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.CommentRepository;
 import com.cloudproject.community_backend.repository.PostRepository;
 import com.cloudproject.community_backend.repository.UserRepository;
+import com.cloudproject.community_backend.service.CommentReactionService;
 import com.cloudproject.community_backend.service.CommentService;
+import com.cloudproject.community_backend.service.PostService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -30,6 +36,8 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentReactionService commentReactionService;
+    private final PostService postService;
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
@@ -43,15 +51,18 @@ public class CommentController {
             Long authorId,
 
             @Schema(description = "게시물 ID", example = "1")
-            Long postId
-    
+            Long postId,
+
+            @Schema(description = "부모 댓글 ID (대댓글일 때만, 대댓글의 대댓글은 같은 스레드에 추가)", example = "1", nullable = true)
+            Long parentId
     ) {}
 
-    @Operation(summary = "댓글 작성", description = "새로운 댓글을 작성합니다.")
+    @Operation(summary = "댓글 작성", description = "새로운 댓글을 작성합니다. parentId를 주면 대댓글로 작성합니다. 스레드는 한 단계만 유지하므로, 대댓글에 단 답글은 그 대댓글이 아닌 원래 댓글(스레드 루트)의 대댓글로 저장되며 응답의 parent로 확인할 수 있습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "댓글 작성 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @ApiResponse(responseCode = "403", description = "권한 없음 (선배 전용)")
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (다른 게시글의 댓글에 답글)"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (선배 전용)"),
+            @ApiResponse(responseCode = "404", description = "부모 댓글 없음")
     })
     @PostMapping
     public Comment createComment(@RequestBody CommentCreateRequest req) {
@@ -66,7 +77,7 @@ public class CommentController {
 
         User author = userRepository.findByEmail(authenticatedEmail)
                 .orElseThrow(() -> new RuntimeException("작성자 없음"));
-        Post post = postRepository.findById(req.postId())
+        Post post = postRepository.findWithDetailsById(req.postId())
                 .orElseThrow(() -> new RuntimeException("게시물 없음"));
 
         Comment comment = new Comment();
@@ -75,6 +86,16 @@ public class CommentController {
         comment.setPost(post);
         comment.setAuthorName(author.getUsername());
 
+        if (req.parentId() != null) {
+            Comment parent = commentRepository.findById(req.parentId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "부모 댓글을 찾을 수 없습니다."));
+            if (!parent.getPost().getId().equals(post.getId())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+            }
+            // 스레드는 한 단계만 유지 (대댓글에 단 답글은 원래 댓글 아래로)
+            comment.setParent(parent.getParent() != null ? parent.getParent() : parent);
+        }
+
         try {
             return commentService.createComment(comment);
         } catch (IllegalStateException e) {
@@ -83,18 +104,53 @@ public class CommentController {
         }
     }
 
-    @Operation(summary = "댓글 조회", description = "특정 게시글의 댓글을 조회합니다. postId 파라미터가 없으면 모든 댓글을 조회합니다.")
+    @Operation(summary = "댓글 조회", description = "특정 게시글의 댓글을 작성순으로 커서 페이징 조회합니다. postId 파라미터가 없으면 전체 댓글을 최신순으로 조회합니다. postId가 있으면 게시물 ETag를 함께 반환하며, If-None-Match가 같으면 304를 반환합니다. (전체 내보내기는 관리자 API 사용)")
     @GetMapping
-    public List<Comment> getComments(@RequestParam(required = false) Long postId) {
+    public ResponseEntity<CursorPageResponse<CommentViewResponse>> getComments(
+            @RequestParam(required = false) Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request
+    ) {
         if (postId != null) {
-            return commentService.getCommentsByPostId(postId);
+            return postService.conditionalResponse(postId, request,
+                    () -> commentService.getCommentsByPostId(postId, cursor, size));
         }
-        return (List<Comment>) commentService.getAllComments();
+        return ResponseEntity.ok(commentService.getLatestComments(cursor, size));
+    }
+
+    @Operation(summary = "댓글 스레드 조회", description = "게시글의 일반 댓글을 작성순으로 커서 페이징 조회하고, 각 댓글에 대댓글을 replySize개까지 포함합니다. 대댓글이 더 있으면 replyCursor로 답글 더 보기를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "게시물을 찾을 수 없음")
+    })
+    @GetMapping("/threads")
+    public CursorPageResponse<CommentViewResponse> getThreads(
+            @RequestParam Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize
+    ) {
+        return commentService.getThreads(postId, cursor, size, replySize);
+    }
+
+    @Operation(summary = "답글 더 보기", description = "댓글의 대댓글을 작성순으로 커서 페이징 조회합니다. 스레드 조회의 replyCursor를 cursor로 넘기면 이어서 조회합니다.")
+    @GetMapping("/{id}/replies")
+    public CursorPageResponse<CommentViewResponse> getReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return commentService.getReplies(id, cursor, size);
     }
-    @Operation(summary = "악플 댓글 조회", description = "AI가 판별한 악플만 조회합니다.")
+
+    @Operation(summary = "악플 댓글 조회", description = "AI가 판별한 악플만 최신순으로 커서 페이징 조회합니다.")
     @GetMapping("/bad")
-    public List<Comment> getBadComments() {
-        return commentService.getBadComments();
+    public CursorPageResponse<CommentViewResponse> getBadComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return commentService.getBadComments(cursor, size);
     }
 
     // 리액션 DTO
@@ -106,40 +162,41 @@ public class CommentController {
     public record ReactionResponse(
             boolean success,
             String message,
-            java.util.Map<String, Integer> reactions
+            java.util.Map<String, Long> reactions
     ) {}
 
-    @Operation(summary = "댓글 리액션 추가", description = "댓글에 긍정적 리액션을 추가합니다 (도움됐어요, 친절해요 등)")
+    @Operation(summary = "댓글 리액션 추가", description = "댓글에 긍정적 리액션을 추가합니다 (helpful: 도움됐어요, kind: 친절해요, clear: 명확해요). 같은 리액션은 한 번만 남길 수 있습니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "리액션 추가 성공"),
+            @ApiResponse(responseCode = "200", description = "리액션 추가 성공 (이미 남긴 리액션이면 success=false)"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 리액션"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
             @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
     })
     @PostMapping("/{id}/reactions")
     public ReactionResponse addReaction(
             @PathVariable Long id,
             @RequestBody ReactionRequest request) {
-        // 댓글 존재 여부 확인
-        Comment comment = commentRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        // 실제로는 DB에 저장해야 하지만, 현재는 로깅만 수행
-        System.out.println("댓글 리액션: commentId=" + id + ", type=" + request.type());
+        if (authentication == null || !authentication.isAuthenticated() ||
+                "anonymousUser".equals(authentication.getPrincipal())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
 
-        // 임시 응답 (실제 구현 시 DB에서 집계)
-        java.util.Map<String, Integer> reactions = new java.util.HashMap<>();
-        reactions.put(request.type(), 1);
+        User user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
 
-        return new ReactionResponse(true, "리액션이 추가되었습니다!", reactions);
+        boolean added = commentReactionService.addReaction(id, user, request.type());
+        return new ReactionResponse(
+                added,
+                added ? "리액션이 추가되었습니다!" : "이미 남긴 리액션입니다.",
+                commentReactionService.getReactions(id)
+        );
     }
 
-    @Operation(summary = "댓글 리액션 조회", description = "댓글의 리액션 통계를 조회합니다")
+    @Operation(summary = "댓글 리액션 조회", description = "댓글의 리액션 종류별 수를 조회합니다 (아직 집계에 반영되지 않은 최근 리액션 포함)")
     @GetMapping("/{id}/reactions")
-    public java.util.Map<String, Integer> getReactions(@PathVariable Long id) {
-        // 임시 응답 (실제 구현 시 DB에서 조회)
-        java.util.Map<String, Integer> reactions = new java.util.HashMap<>();
-        reactions.put("helpful", 0);
-        reactions.put("kind", 0);
-        reactions.put("clear", 0);
-        return reactions;
+    public java.util.Map<String, Long> getReactions(@PathVariable Long id) {
+        return commentReactionService.getReactions(id);
     }
 }
@@ -1,5 +1,6 @@
 package com.cloudproject.community_backend.controller;
 
+import com.cloudproject.community_backend.dto.LikeCountResponse;
 import com.cloudproject.community_backend.entity.Comment;
 import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.CommentRepository;
@@ -57,20 +58,19 @@ public class CommentLikeController {
 
         Long userId = getUserIdFromToken(request);
 
-        Comment comment = commentRepository.findById(id)
+        Comment comment = commentRepository.findActiveById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"));
 
         commentLikeService.toggleLike(comment, user, true);
 
-        long likeCount = commentLikeService.getLikeCount(comment);
-        long dislikeCount = commentLikeService.getDislikeCount(comment);
+        LikeCountResponse counts = commentLikeService.getLikeCounts(comment);
 
         return ResponseEntity.ok(Map.of(
                 "message", "댓글 좋아요 처리 완료",
-                "likes", likeCount,
-                "dislikes", dislikeCount
+                "likes", counts.getLikes(),
+                "dislikes", counts.getDislikes()
         ));
     }
 
@@ -96,20 +96,19 @@ public class CommentLikeController {
 
         Long userId = getUserIdFromToken(request);
 
-        Comment comment = commentRepository.findById(id)
+        Comment comment = commentRepository.findActiveById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"));
 
         commentLikeService.toggleLike(comment, user, false);
 
-        long likeCount = commentLikeService.getLikeCount(comment);
-        long dislikeCount = commentLikeService.getDislikeCount(comment);
+        LikeCountResponse counts = commentLikeService.getLikeCounts(comment);
 
         return ResponseEntity.ok(Map.of(
                 "message", "댓글 싫어요 처리 완료",
-                "likes", likeCount,
-                "dislikes", dislikeCount
+                "likes", counts.getLikes(),
+                "dislikes", counts.getDislikes()
         ));
     }
 
@@ -129,11 +128,10 @@ public class CommentLikeController {
     public ResponseEntity<Map<String, Long>> getCommentLikes(
             @Parameter(description = "댓글 ID", example = "1") @PathVariable Long id) {
 
-        Comment comment = commentRepository.findById(id)
+        Comment comment = commentRepository.findActiveById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다"));
-        long likeCount = commentLikeService.getLikeCount(comment);
-        long dislikeCount = commentLikeService.getDislikeCount(comment);
-        return ResponseEntity.ok(Map.of("likes", likeCount, "dislikes", dislikeCount));
+        LikeCountResponse counts = commentLikeService.getLikeCounts(comment);
+        return ResponseEntity.ok(Map.of("likes", counts.getLikes(), "dislikes", counts.getDislikes()));
     }
 
     /**
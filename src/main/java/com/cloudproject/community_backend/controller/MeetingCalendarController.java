@@ -0,0 +1,44 @@
+package com.cloudproject.community_backend.controller;
+
+import com.cloudproject.community_backend.dto.CursorPageResponse;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.service.MeetingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "모임 일정", description = "모임 일정 순 조회 API")
+@RestController
+@RequestMapping("/api/meetings")
+@RequiredArgsConstructor
+public class MeetingCalendarController {
+
+    private final MeetingService meetingService;
+
+    @Operation(summary = "다가오는 모임", description = "앞으로 예정된 모임을 일정이 가까운 순으로 커서 페이징 조회합니다. (메모리 인덱스에서 응답)")
+    @GetMapping("/upcoming")
+    public CursorPageResponse<PostSummaryResponse> getUpcomingMeetings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return meetingService.getUpcomingMeetings(cursor, size);
+    }
+
+    @Operation(summary = "기간별 모임", description = "일정이 [from, to) 구간에 있는 모임을 일정 순으로 커서 페이징 조회합니다. (최대 366일)")
+    @GetMapping
+    public CursorPageResponse<PostSummaryResponse> getMeetings(
+            @Parameter(description = "시작 시각 (포함)", example = "2025-11-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각 (제외)", example = "2025-12-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return meetingService.getMeetingsBetween(from, to, cursor, size);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cloudproject.community_backend.controller;
+
+import com.cloudproject.community_backend.dto.MeetingParticipantResponse;
+import com.cloudproject.community_backend.dto.MeetingParticipationResponse;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.repository.UserRepository;
+import com.cloudproject.community_backend.service.MeetingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Tag(name = "모임 참여", description = "모임 게시글 참여/취소 관련 API")
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class MeetingController {
+
+    private final MeetingService meetingService;
+    private final UserRepository userRepository;
+
+    @Operation(summary = "모임 참여", description = "모임에 참여합니다. 정원이 찼으면 대기열에 등록되고, 참여자가 취소하면 신청 순서대로 자동 참여 처리됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "참여 또는 대기 등록 성공"),
+            @ApiResponse(responseCode = "400", description = "모임 게시글이 아님"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "404", description = "게시물을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "동시에 중복 신청됨")
+    })
+    @PostMapping("/{id}/participants")
+    public MeetingParticipationResponse join(@Parameter(description = "모임 게시물 ID", example = "1") @PathVariable Long id) {
+        return meetingService.join(id, getAuthenticatedUser());
+    }
+
+    @Operation(summary = "모임 참여 취소", description = "모임 참여 또는 대기를 취소합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "취소 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "404", description = "게시물 또는 참여 신청 내역을 찾을 수 없음")
+    })
+    @DeleteMapping("/{id}/participants")
+    public MeetingParticipationResponse leave(@Parameter(description = "모임 게시물 ID", example = "1") @PathVariable Long id) {
+        return meetingService.leave(id, getAuthenticatedUser());
+    }
+
+    @Operation(summary = "모임 참여자 목록", description = "참여자와 대기자를 신청 순서대로 조회합니다.")
+    @GetMapping("/{id}/participants")
+    public List<MeetingParticipantResponse> getParticipants(@Parameter(description = "모임 게시물 ID", example = "1") @PathVariable Long id) {
+        return meetingService.getParticipants(id);
+    }
+
+    private User getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() ||
+                "anonymousUser".equals(authentication.getPrincipal())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+
+        return userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
+    }
+}
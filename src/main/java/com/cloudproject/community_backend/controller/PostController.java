@@ -1,11 +1,17 @@
 package com.cloudproject.community_backend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import com.cloudproject.community_backend.dto.CategoryFacetResponse;
+import com.cloudproject.community_backend.dto.CursorPageResponse;
+import com.cloudproject.community_backend.dto.PostDetailResponse;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.dto.PostViewResponse;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.PostBoardType;
 import com.cloudproject.community_backend.entity.User;
@@ -15,9 +21,11 @@ import com.cloudproject.community_backend.service.PostService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -107,20 +115,93 @@ public class PostController {
         return postService.createPost(post, req);
     }
 
-    @Operation(summary = "게시물 전체 조회", description = "등록된 모든 게시물을 조회합니다.")
+    @Operation(summary = "게시물 목록 조회", description = "게시물을 최신순으로 커서 페이징 조회합니다. 응답의 nextCursor를 cursor 파라미터로 넘기면 다음 페이지를 조회합니다. category를 지정하면 해당 카테고리의 질문만 조회합니다.")
     @GetMapping
-    public List<Post> getAllPosts(@RequestParam(required = false) PostBoardType boardType) {
-        if (boardType != null) {
-            return postRepository.findByBoardType(boardType);
+    public CursorPageResponse<PostSummaryResponse> getAllPosts(
+            @RequestParam(required = false) PostBoardType boardType,
+            @Parameter(description = "질문 카테고리 (질문 게시판 전용)", example = "수학")
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (category != null) {
+            requireQuestionBoard(boardType);
+            return postService.getQuestionFeedByCategory(null, category, cursor, size);
         }
-        return postRepository.findAll();
+        return postService.getFeed(boardType, cursor, size);
+    }
+
+    @Operation(summary = "학교별 게시물 목록 조회", description = "특정 학교 학생이 작성한 게시물을 최신순으로 커서 페이징 조회합니다.")
+    @GetMapping("/schools/{schoolId}")
+    public CursorPageResponse<PostSummaryResponse> getSchoolPosts(
+            @PathVariable Long schoolId,
+            @RequestParam(required = false) PostBoardType boardType,
+            @Parameter(description = "질문 카테고리 (질문 게시판 전용)", example = "수학")
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (category != null) {
+            requireQuestionBoard(boardType);
+            return postService.getQuestionFeedByCategory(schoolId, category, cursor, size);
+        }
+        return postService.getSchoolFeed(schoolId, boardType, cursor, size);
+    }
+
+    @Operation(summary = "질문 카테고리별 질문 수", description = "질문 게시판 카테고리별 질문 수를 많은 순으로 조회합니다. schoolId를 지정하면 해당 학교 질문만 집계합니다.")
+    @GetMapping("/questions/categories")
+    public List<CategoryFacetResponse> getQuestionCategories(@RequestParam(required = false) Long schoolId) {
+        return postService.getQuestionCategoryFacets(schoolId);
+    }
+
+    @Operation(summary = "게시물 검색", description = "제목/본문에서 검색어와 관련도가 높은 순으로 게시물을 조회합니다. 블라인드 게시물은 제외됩니다.")
+    @GetMapping("/search")
+    public List<PostSummaryResponse> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) PostBoardType boardType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return postService.searchPosts(q, boardType, page, size);
+    }
+
+    @Operation(summary = "인기글 조회", description = "좋아요/댓글/조회 수에 시간 감쇠를 적용한 점수 순으로 게시물을 조회합니다.")
+    @GetMapping("/trending")
+    public List<PostSummaryResponse> getTrendingPosts(
+            @RequestParam(required = false) PostBoardType boardType,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return postService.getTrendingPosts(boardType, size);
     }
 
     @Operation(summary = "게시물 단건 조회", description = "ID로 게시글을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (ETag 포함)"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
+            @ApiResponse(responseCode = "404", description = "게시물을 찾을 수 없음")
+    })
     @GetMapping("/{id}")
-    public Post getPost(@PathVariable Long id) {
-        return postRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+    public ResponseEntity<PostDetailResponse> getPost(@PathVariable Long id, WebRequest request) {
+        return postService.conditionalResponse(id, request, () -> postService.getPostDetail(id));
+    }
+
+    @Operation(summary = "게시물 화면 조회", description = "게시물 상세, 댓글(대댓글 포함), 좋아요/싫어요 수, 로그인 사용자의 반응을 한 번에 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "게시물을 찾을 수 없음")
+    })
+    @GetMapping("/{id}/view")
+    public PostViewResponse getPostView(@PathVariable Long id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // 비로그인 조회도 허용 (내 반응만 생략)
+        String viewerEmail = null;
+        if (authentication != null && authentication.isAuthenticated() &&
+                !"anonymousUser".equals(authentication.getPrincipal())) {
+            viewerEmail = authentication.getName();
+        }
+
+        return postService.getPostView(id, viewerEmail);
     }
 
     @Operation(summary = "게시물 삭제", description = "작성자 본인만 게시물을 삭제할 수 있습니다.")
@@ -141,7 +222,7 @@ public class PostController {
 
         String authenticatedEmail = authentication.getName();
 
-        Post post = postRepository.findById(id)
+        Post post = postRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
 
         // 작성자 확인
@@ -149,6 +230,12 @@ public class PostController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "작성자만 삭제할 수 있습니다.");
         }
 
-        postRepository.delete(post);
+        postService.deletePost(post);
+    }
+
+    private void requireQuestionBoard(PostBoardType boardType) {
+        if (boardType != null && boardType != PostBoardType.QUESTION) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "카테고리 필터는 질문 게시판에서만 사용할 수 있습니다.");
+        }
     }
 }
@@ -1,10 +1,12 @@
 package com.cloudproject.community_backend.controller;
 
+import com.cloudproject.community_backend.dto.LikeCountResponse;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.PostRepository;
 import com.cloudproject.community_backend.repository.UserRepository;
 import com.cloudproject.community_backend.service.PostLikeService;
+import com.cloudproject.community_backend.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -26,6 +29,7 @@ import java.util.Map;
 public class PostLikeController {
 
     private final PostLikeService postLikeService;
+    private final PostService postService;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
 
@@ -49,17 +53,16 @@ public class PostLikeController {
             @Parameter(description = "게시물 ID", example = "1") @PathVariable Long id,
             @Parameter(description = "유저 ID", example = "1") @RequestParam Long userId) {
 
-        Post post = postRepository.findById(id).orElseThrow();
+        Post post = postRepository.findActiveById(id).orElseThrow();
         User user = userRepository.findById(userId).orElseThrow();
         postLikeService.toggleLike(post, user, true);
 
-        long likeCount = postLikeService.getLikeCount(post);
-        long dislikeCount = postLikeService.getDislikeCount(post);
+        LikeCountResponse counts = postLikeService.getLikeCounts(post);
 
         return ResponseEntity.ok(Map.of(
                 "message", "게시물 좋아요 처리 완료",
-                "likes", likeCount,
-                "dislikes", dislikeCount
+                "likes", counts.getLikes(),
+                "dislikes", counts.getDislikes()
         ));
     }
 
@@ -83,17 +86,16 @@ public class PostLikeController {
             @Parameter(description = "게시물 ID", example = "1") @PathVariable Long id,
             @Parameter(description = "유저 ID", example = "1") @RequestParam Long userId) {
 
-        Post post = postRepository.findById(id).orElseThrow();
+        Post post = postRepository.findActiveById(id).orElseThrow();
         User user = userRepository.findById(userId).orElseThrow();
         postLikeService.toggleLike(post, user, false);
 
-        long likeCount = postLikeService.getLikeCount(post);
-        long dislikeCount = postLikeService.getDislikeCount(post);
+        LikeCountResponse counts = postLikeService.getLikeCounts(post);
 
         return ResponseEntity.ok(Map.of(
                 "message", "게시물 싫어요 처리 완료",
-                "likes", likeCount,
-                "dislikes", dislikeCount
+                "likes", counts.getLikes(),
+                "dislikes", counts.getDislikes()
         ));
     }
 
@@ -111,14 +113,17 @@ public class PostLikeController {
                 examples = @ExampleObject(value = "{ \"likes\": 12, \"dislikes\": 3 }")
             )
         ),
+        @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
         @ApiResponse(responseCode = "404", description = "게시물을 찾을 수 없음")
     })
     public ResponseEntity<Map<String, Long>> getPostLikes(
-            @Parameter(description = "게시물 ID", example = "1") @PathVariable Long id) {
+            @Parameter(description = "게시물 ID", example = "1") @PathVariable Long id,
+            WebRequest request) {
 
-        Post post = postRepository.findById(id).orElseThrow();
-        long likeCount = postLikeService.getLikeCount(post);
-        long dislikeCount = postLikeService.getDislikeCount(post);
-        return ResponseEntity.ok(Map.of("likes", likeCount, "dislikes", dislikeCount));
+        return postService.conditionalResponse(id, request, () -> {
+            Post post = postRepository.findActiveById(id).orElseThrow();
+            LikeCountResponse counts = postLikeService.getLikeCounts(post);
+            return Map.of("likes", counts.getLikes(), "dislikes", counts.getDislikes());
+        });
     }
 }
@@ -0,0 +1,30 @@
+package com.cloudproject.community_backend.controller;
+
+import com.cloudproject.community_backend.service.SchoolNameIndex;
+import com.cloudproject.community_backend.service.SchoolNameIndex.SchoolMatch;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "학교", description = "학교 검색 API")
+@RestController
+@RequestMapping("/api/schools")
+@RequiredArgsConstructor
+public class SchoolController {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final SchoolNameIndex schoolNameIndex;
+
+    @Operation(summary = "학교명 검색", description = "한글/영문 학교명으로 비슷한 학교를 유사도 순으로 조회합니다. 오타나 OCR 오인식이 있어도 검색됩니다.")
+    @GetMapping("/search")
+    public List<SchoolMatch> searchSchools(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        return schoolNameIndex.search(q, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
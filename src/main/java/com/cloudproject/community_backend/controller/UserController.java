@@ -9,12 +9,13 @@ import com.cloudproject.community_backend.dto.SeniorStatusResponse;
 import com.cloudproject.community_backend.dto.SeniorVerificationRequest;
 import com.cloudproject.community_backend.dto.RegisterRequest;
 import com.cloudproject.community_backend.dto.RegisterResponse;
+import com.cloudproject.community_backend.dto.VerificationJobResponse;
 import com.cloudproject.community_backend.entity.School;
 import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.SchoolRepository;
 import com.cloudproject.community_backend.repository.UserRepository;
 import com.cloudproject.community_backend.security.JwtUtil;
-import com.cloudproject.community_backend.service.OcrSpaceOcrService;
+import com.cloudproject.community_backend.service.StudentCardVerificationService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -41,7 +42,7 @@ public class UserController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final SchoolRepository schoolRepository;
-    private final OcrSpaceOcrService ocrSpaceOcrService;
+    private final StudentCardVerificationService studentCardVerificationService;
     private final JwtUtil jwtUtil;
     
     /**
@@ -93,17 +94,19 @@ public class UserController {
 
     /**
      * 학생증 OCR 기반 회원가입 (폐기 예정 또는 별도 기능으로 사용)
+     * OCR은 백그라운드 작업으로 처리되며, 작업 ID로 결과를 조회
      */
     @PostMapping(
         value = "/register-with-card",
         consumes = MediaType.MULTIPART_FORM_DATA_VALUE
     )
-    @Operation(summary = "회원가입 (학생증 인증)", description = "학생증 인증을 통해 새로운 사용자를 등록합니다.")
+    @Operation(summary = "회원가입 (학생증 인증)", description = "학생증 인증 회원가입 작업을 접수합니다. 결과는 /api/users/verification-jobs/{jobId}로 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "회원가입 성공"),
-            @ApiResponse(responseCode = "400", description = "인증 실패 / 중복 이메일")
+            @ApiResponse(responseCode = "202", description = "인증 작업 접수"),
+            @ApiResponse(responseCode = "400", description = "중복 이메일"),
+            @ApiResponse(responseCode = "503", description = "인증 요청 과다")
     })
-    public ResponseEntity<?> register(
+    public ResponseEntity<com.cloudproject.community_backend.dto.ApiResponse<VerificationJobResponse>> register(
             @RequestParam String email,
             @RequestParam String password,
             @RequestParam String username,
@@ -116,65 +119,17 @@ public class UserController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 가입된 이메일입니다.");
         }
 
-        // 학생증 OCR 처리 및 학교명 추출
-        String recognizedSchool = ocrSpaceOcrService.extractSchoolName(studentCard);
-        System.out.println("OCR 반환 학교명: " + recognizedSchool);
-
-        // 공백 제거 + 대소문자 무시
-        String normalizedInput = schoolName.replaceAll("\\s+", "").toLowerCase();
-        String normalizedOcr = recognizedSchool.replaceAll("\\s+", "").toLowerCase();
-
-        if (!normalizedInput.equals(normalizedOcr)) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body("학교 인증 실패. 입력한 학교명: " + schoolName + ", OCR 결과: " + recognizedSchool);
-        }
-
-        // OCR로 입학년도 추출 및 학년 계산
-        Integer admissionYear = ocrSpaceOcrService.extractAdmissionYear(studentCard);
-        Integer grade = null;
-        boolean isSenior = false;
-
-        if (admissionYear != null) {
-            grade = ocrSpaceOcrService.calculateGradeFromYear(admissionYear);
-            if (grade != null && grade >= 2) {
-                isSenior = true;
-            }
-            System.out.println("OCR 입학년도: " + admissionYear + ", 계산된 학년: " + grade);
-        } else {
-            System.out.println("입학년도 추출 실패 - 학년 정보 없이 가입 진행");
-        }
-
-        // DB에서 학교 조회 (없으면 생성)
-        School school = schoolRepository.findByName(schoolName)
-                .orElseGet(() -> schoolRepository.save(new School(null, schoolName, null)));
-
-        // 가입 진행
-        User user = new User();
-        user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
-        user.setUsername(username);
-        user.setSchool(school);
-        user.setGrade(grade);
-        user.setIsSeniorVerified(isSenior);
-        if (isSenior) {
-            user.setSeniorVerifiedAt(java.time.LocalDateTime.now());
-        }
-
-        User savedUser = userRepository.save(user);
-
-        String message = "회원가입 완료!";
-        if (grade != null) {
-            message += " 학년: " + grade + "학년";
-            if (isSenior) {
-                message += " (선배 인증 완료)";
-            }
-        }
+        VerificationJobResponse job = studentCardVerificationService.submitRegistration(
+            email,
+            passwordEncoder.encode(password),
+            username,
+            schoolName,
+            studentCard
+        );
 
-        return ResponseEntity.ok(java.util.Map.of(
-            "user", savedUser,
-            "message", message
-        ));
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(com.cloudproject.community_backend.dto.ApiResponse.success("학생증 인증 요청이 접수되었습니다", job));
     }
 
     @Operation(summary = "모든 사용자 조회", description = "등록된 모든 사용자를 조회합니다.")
@@ -222,62 +177,53 @@ public class UserController {
 
     /**
      * 학생증 OCR 기반 선배 인증
+     * OCR은 백그라운드 작업으로 처리되며, 작업 ID로 결과를 조회
      */
     @PostMapping(value = "/senior-verification/ocr", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "학생증 OCR 선배 인증", description = "학생증 이미지에서 입학년도를 추출하여 자동으로 선배 인증을 진행합니다")
+    @Operation(summary = "학생증 OCR 선배 인증", description = "학생증 이미지에서 입학년도를 추출하는 선배 인증 작업을 접수합니다. 결과는 /api/users/verification-jobs/{jobId}로 조회합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "선배 인증 성공"),
-        @ApiResponse(responseCode = "400", description = "OCR 인식 실패 / 유효하지 않은 학년")
+        @ApiResponse(responseCode = "202", description = "인증 작업 접수"),
+        @ApiResponse(responseCode = "503", description = "인증 요청 과다")
     })
-    public ResponseEntity<com.cloudproject.community_backend.dto.ApiResponse<String>> verifySeniorWithOcr(
+    public ResponseEntity<com.cloudproject.community_backend.dto.ApiResponse<VerificationJobResponse>> verifySeniorWithOcr(
         @RequestPart MultipartFile studentIdImage,
         HttpServletRequest httpRequest
-    ) {
-        System.out.println("=== OCR 선배 인증 요청 시작 ===");
+    ) throws IOException {
+        System.out.println("=== OCR 선배 인증 요청 접수 ===");
         System.out.println("파일명: " + studentIdImage.getOriginalFilename());
         System.out.println("파일 크기: " + studentIdImage.getSize());
 
         Long userId = getUserIdFromToken(httpRequest);
-        System.out.println("사용자 ID: " + userId);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다"));
-
-        System.out.println("OCR 입학년도 추출 시작...");
-        Integer admissionYear = ocrSpaceOcrService.extractAdmissionYear(studentIdImage);
-        System.out.println("추출된 입학년도: " + admissionYear);
-        if (admissionYear == null) {
-            return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(com.cloudproject.community_backend.dto.ApiResponse.error("학생증에서 입학년도를 인식할 수 없습니다. 다시 시도해주세요."));
-        }
-
-        // 입학년도로 학년 계산
-        Integer grade = ocrSpaceOcrService.calculateGradeFromYear(admissionYear);
-        if (grade == null || grade < 2) {
-            return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(com.cloudproject.community_backend.dto.ApiResponse.error(
-                    "선배 인증은 2학년 이상만 가능합니다. 추출된 입학년도: " + admissionYear
-                ));
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다");
         }
 
-        // 선배 인증 완료
-        user.setGrade(grade);
-        user.setIsSeniorVerified(true);
-        user.setSeniorVerifiedAt(java.time.LocalDateTime.now());
-        userRepository.save(user);
+        VerificationJobResponse job = studentCardVerificationService.submitSeniorVerification(userId, studentIdImage);
 
-        System.out.println(String.format(
-            "OCR 선배 인증 완료 - 사용자: %s, 입학년도: %d, 학년: %d",
-            user.getUsername(), admissionYear, grade
-        ));
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(com.cloudproject.community_backend.dto.ApiResponse.success("학생증 인증 요청이 접수되었습니다", job));
+    }
 
-        return ResponseEntity.ok(
-            com.cloudproject.community_backend.dto.ApiResponse.success(
-                String.format("선배 인증이 완료되었습니다. 학년: %d학년 (입학년도: %d)", grade, admissionYear)
-            )
-        );
+    /**
+     * 학생증 인증 작업 상태 조회
+     */
+    @GetMapping("/verification-jobs/{jobId}")
+    @Operation(summary = "학생증 인증 작업 조회", description = "학생증 인증 작업의 진행 상태와 결과를 조회합니다 (PENDING → RUNNING → SUCCEEDED/FAILED). 선배 인증 작업은 접수한 사용자의 JWT로, 회원가입 작업은 접수 응답의 accessKey를 X-Verification-Key 헤더로 전달해야 조회할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (만료, 다른 사용자의 작업 포함)")
+    })
+    public ResponseEntity<VerificationJobResponse> getVerificationJob(
+        @PathVariable String jobId,
+        @RequestHeader(value = "X-Verification-Key", required = false) String accessKey,
+        HttpServletRequest httpRequest
+    ) {
+        Long requesterId = extractTokenFromRequest(httpRequest) != null ? getUserIdFromToken(httpRequest) : null;
+        VerificationJobResponse job = studentCardVerificationService.getJob(jobId, requesterId, accessKey)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "인증 작업을 찾을 수 없습니다"));
+        return ResponseEntity.ok(job);
     }
 
     /**
@@ -0,0 +1,9 @@
+package com.cloudproject.community_backend.dto;
+
+/**
+ * 질문 카테고리 패싯 항목 ("수학 (132)")
+ */
+public record CategoryFacetResponse(
+    String categoryName,
+    long count
+) {}
@@ -0,0 +1,19 @@
+package com.cloudproject.community_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 댓글 내보내기 한 줄 (NDJSON)
+ */
+public record CommentExportRow(
+    Long id,
+    Long postId,
+    Long parentId,
+    Long authorId,
+    String authorName,
+    String content,
+    boolean bad,
+    long likeCount,
+    long dislikeCount,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,9 @@
+package com.cloudproject.community_backend.dto;
+
+/**
+ * 사용자가 누른 댓글 좋아요/싫어요 (게시물 단위 일괄 조회용)
+ */
+public record CommentLikeState(
+    Long commentId,
+    boolean liked
+) {}
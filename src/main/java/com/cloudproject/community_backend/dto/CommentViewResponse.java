@@ -0,0 +1,71 @@
+package com.cloudproject.community_backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시물 화면용 댓글 DTO (대댓글은 replies에 포함)
+ */
+@Getter
+@NoArgsConstructor
+public class CommentViewResponse {
+
+    private Long id;
+
+    /**
+     * 부모 댓글 ID (일반 댓글이면 null)
+     */
+    private Long parentId;
+
+    private String content;
+    private Long authorId;
+    private String authorName;
+    private boolean bad;
+    private long likeCount;
+    private long dislikeCount;
+    private LocalDateTime createdAt;
+
+    /**
+     * 조회한 사용자의 반응 ("LIKE", "DISLIKE", 없거나 비로그인이면 null)
+     */
+    @Setter
+    private String myReaction;
+
+    private final List<CommentViewResponse> replies = new ArrayList<>();
+
+    /**
+     * 답글 더 보기 커서 (스레드 조회에서 replies 외에 남은 대댓글이 있을 때만 값이 있음)
+     */
+    @Setter
+    private String replyCursor;
+
+    /**
+     * JPQL 생성자 표현식용 (CommentRepository의 select 절과 인자 순서가 같아야 함)
+     */
+    public CommentViewResponse(
+        Long id,
+        Long parentId,
+        String content,
+        Long authorId,
+        String authorName,
+        boolean bad,
+        long likeCount,
+        long dislikeCount,
+        LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.parentId = parentId;
+        this.content = content;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.bad = bad;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.cloudproject.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이징 응답 DTO
+ * - nextCursor를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+            .items(items)
+            .nextCursor(nextCursor)
+            .hasNext(nextCursor != null)
+            .build();
+    }
+}
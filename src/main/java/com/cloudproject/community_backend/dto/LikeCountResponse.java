@@ -0,0 +1,17 @@
+package com.cloudproject.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좋아요/싫어요 수 (게시물/댓글의 비정규화 카운터 값)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeCountResponse {
+
+    private long likes;
+    private long dislikes;
+}
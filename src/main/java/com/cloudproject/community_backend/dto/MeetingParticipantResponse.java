@@ -0,0 +1,15 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.MeetingParticipantStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 참여자 목록 항목
+ */
+public record MeetingParticipantResponse(
+    Long userId,
+    String username,
+    MeetingParticipantStatus status,
+    LocalDateTime createdAt
+) {}
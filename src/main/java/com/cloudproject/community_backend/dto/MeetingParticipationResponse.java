@@ -0,0 +1,25 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.MeetingParticipantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 참여/취소 결과
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingParticipationResponse {
+
+    /**
+     * 요청한 사용자의 상태 (취소했으면 null)
+     */
+    private MeetingParticipantStatus status;
+
+    private int currentParticipants;
+
+    /**
+     * 정원 (null이면 제한 없음)
+     */
+    private Integer capacity;
+}
@@ -0,0 +1,52 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.PostBoardType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 상세 응답 DTO (목록 항목 + 본문)
+ */
+@Getter
+@NoArgsConstructor
+public class PostDetailResponse extends PostSummaryResponse {
+
+    private String content;
+
+    /**
+     * JPQL 생성자 표현식용 (PostRepository의 select 절과 인자 순서가 같아야 함)
+     */
+    public PostDetailResponse(
+        Long id,
+        PostBoardType boardType,
+        String title,
+        String content,
+        Long authorId,
+        String authorUsername,
+        String authorDisplayName,
+        boolean anonymous,
+        boolean seniorOnlyComment,
+        boolean bad,
+        long likeCount,
+        long dislikeCount,
+        long commentCount,
+        long viewCount,
+        LocalDateTime createdAt,
+        LocalDateTime meetingSchedule,
+        String meetingLocation,
+        Integer meetingCapacity,
+        Integer meetingCurrentParticipants,
+        String questionCategoryName,
+        Boolean questionForSeniorsOnly
+    ) {
+        super(
+            id, boardType, title, authorId, authorUsername, authorDisplayName,
+            anonymous, seniorOnlyComment, bad, likeCount, dislikeCount, commentCount, viewCount, createdAt,
+            meetingSchedule, meetingLocation, meetingCapacity, meetingCurrentParticipants,
+            questionCategoryName, questionForSeniorsOnly
+        );
+        this.content = content;
+    }
+}
@@ -0,0 +1,14 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.PostBoardType;
+
+/**
+ * 검색 색인용 게시물 원문 (색인에 필요한 컬럼만 조회)
+ */
+public record PostSearchSource(
+    Long id,
+    PostBoardType boardType,
+    String title,
+    String content,
+    boolean bad
+) {}
@@ -0,0 +1,9 @@
+package com.cloudproject.community_backend.dto;
+
+/**
+ * 검색 인덱스 스냅샷 보정용 게시물 상태 (삭제되지 않은 게시물의 ID와 블라인드 여부)
+ */
+public record PostSearchState(
+    Long id,
+    boolean bad
+) {}
@@ -0,0 +1,114 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.PostBoardType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 목록 응답 DTO
+ * - 피드에 필요한 컬럼만 한 번의 쿼리로 조회 (작성자 엔티티/본문 제외)
+ * - 익명 게시물은 작성자 ID를 노출하지 않음
+ */
+@Getter
+@NoArgsConstructor
+public class PostSummaryResponse {
+
+    private static final String ANONYMOUS_NAME = "익명";
+
+    private Long id;
+    private PostBoardType boardType;
+    private String title;
+
+    /**
+     * 작성자 ID (익명이면 null)
+     */
+    private Long authorId;
+    private String authorName;
+
+    private boolean anonymous;
+    private boolean seniorOnlyComment;
+    private boolean bad;
+    private long likeCount;
+    private long dislikeCount;
+    private long commentCount;
+    private long viewCount;
+    private LocalDateTime createdAt;
+
+    /**
+     * 모임 게시글 정보 (모임 게시판이 아니면 null)
+     */
+    private Meeting meeting;
+
+    /**
+     * 질문 게시글 정보 (질문 게시판이 아니면 null)
+     */
+    private Question question;
+
+    public record Meeting(
+        LocalDateTime schedule,
+        String location,
+        Integer capacity,
+        Integer currentParticipants
+    ) {}
+
+    public record Question(
+        String categoryName,
+        boolean forSeniorsOnly
+    ) {}
+
+    /**
+     * JPQL 생성자 표현식용 (PostRepository의 select 절과 인자 순서가 같아야 함)
+     */
+    public PostSummaryResponse(
+        Long id,
+        PostBoardType boardType,
+        String title,
+        Long authorId,
+        String authorUsername,
+        String authorDisplayName,
+        boolean anonymous,
+        boolean seniorOnlyComment,
+        boolean bad,
+        long likeCount,
+        long dislikeCount,
+        long commentCount,
+        long viewCount,
+        LocalDateTime createdAt,
+        LocalDateTime meetingSchedule,
+        String meetingLocation,
+        Integer meetingCapacity,
+        Integer meetingCurrentParticipants,
+        String questionCategoryName,
+        Boolean questionForSeniorsOnly
+    ) {
+        this.id = id;
+        this.boardType = boardType;
+        this.title = title;
+        this.anonymous = anonymous;
+        this.seniorOnlyComment = seniorOnlyComment;
+        this.bad = bad;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.commentCount = commentCount;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+
+        if (anonymous) {
+            this.authorName = authorDisplayName != null ? authorDisplayName : ANONYMOUS_NAME;
+        } else {
+            this.authorId = authorId;
+            this.authorName = authorDisplayName != null ? authorDisplayName : authorUsername;
+        }
+
+        if (boardType == PostBoardType.MEETING) {
+            this.meeting = new Meeting(meetingSchedule, meetingLocation, meetingCapacity, meetingCurrentParticipants);
+        } else if (boardType == PostBoardType.QUESTION) {
+            this.question = new Question(
+                questionCategoryName,
+                Boolean.TRUE.equals(questionForSeniorsOnly)
+            );
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.PostBoardType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 점수 재계산용 게시물 집계 값 (비정규화 카운터 컬럼만 조회)
+ */
+public record PostTrendingSource(
+    Long id,
+    PostBoardType boardType,
+    long likeCount,
+    long commentCount,
+    long viewCount,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,26 @@
+package com.cloudproject.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시물 화면 응답 (게시물 상세 + 댓글 트리 + 좋아요 수 + 내 반응을 한 번에)
+ */
+@Getter
+@AllArgsConstructor
+public class PostViewResponse {
+
+    private PostDetailResponse post;
+
+    /**
+     * 조회한 사용자의 게시물 반응 ("LIKE", "DISLIKE", 없거나 비로그인이면 null)
+     */
+    private String myReaction;
+
+    /**
+     * 일반 댓글 목록 (작성순, 대댓글은 각 댓글의 replies에 포함)
+     */
+    private List<CommentViewResponse> comments;
+}
@@ -0,0 +1,10 @@
+package com.cloudproject.community_backend.dto;
+
+/**
+ * 학교+카테고리별 질문 수 (카테고리 패싯 적재용 집계 값)
+ */
+public record QuestionCategoryCount(
+    Long schoolId,
+    String categoryName,
+    long count
+) {}
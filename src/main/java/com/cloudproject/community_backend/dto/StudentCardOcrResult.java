@@ -0,0 +1,41 @@
+package com.cloudproject.community_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 학생증 OCR 결과 DTO
+ * - OCR 1회 호출 결과(원문)와 그 원문에서 추출한 값들을 함께 보관
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentCardOcrResult {
+
+    /**
+     * OCR 원문 텍스트 (인식 실패 시 null)
+     */
+    private String parsedText;
+
+    /**
+     * 추출된 학교명 (인식 실패 시 "인식 실패", 에러 시 "에러 발생")
+     */
+    private String schoolName;
+
+    /**
+     * 추출된 입학년도 (인식 실패 시 null)
+     */
+    private Integer admissionYear;
+
+    /**
+     * OCR 원문이 정상적으로 인식되었는지 여부
+     */
+    public boolean isRecognized() {
+        return parsedText != null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.VerificationJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학생증 인증 작업 상태 응답 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationJobResponse {
+
+    private String jobId;
+
+    /**
+     * 회원가입 작업 조회 키 (접수 응답에만 포함, 조회 시 X-Verification-Key 헤더로 전달)
+     */
+    private String accessKey;
+
+    private VerificationJobStatus status;
+    private String message;
+
+    /**
+     * 작업 대상 사용자 ID (회원가입 작업은 가입 완료 후 채워짐)
+     */
+    private Long userId;
+    private Integer admissionYear;
+    private Integer grade;
+    private Boolean isSeniorVerified;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
@@ -1,5 +1,6 @@
 package com.cloudproject.community_backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,19 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments") // 테이블 이름 명시 (user, post와 충돌 방지)
+@Table(
+    name = "comments", // 테이블 이름 명시 (user, post와 충돌 방지)
+    indexes = {
+        // 학교별 댓글 최신순 조회용
+        @Index(name = "idx_comment_school_created", columnList = "school_id, created_at, id"),
+        // 게시물별 댓글 작성순 keyset 페이징용
+        @Index(name = "idx_comment_post_created", columnList = "post_id, created_at, id"),
+        // 부적절 판정 댓글 최신순 조회용 (MySQL은 부분 인덱스가 없어 is_bad 선두 복합 인덱스)
+        @Index(name = "idx_comment_bad_created", columnList = "is_bad, created_at, id"),
+        // 게시물별 일반 댓글(parent_id null) keyset 페이징용
+        @Index(name = "idx_comment_post_parent", columnList = "post_id, parent_id, id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,16 +36,26 @@ public class Comment {
     @Column(nullable = false, length = 500) // 글자수 제한
     private String content;
 
-    @ManyToOne
+    // 작성자/게시글/부모는 지연 로딩 (함께 필요한 조회는 CommentRepository의 EntityGraph 메서드 사용)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", referencedColumnName = "id") // FK: users.id
+    @JsonIgnoreProperties({"hibernateLazyInitializer"})
     private User author;   // 댓글 작성자
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", referencedColumnName = "id")   // FK: post.id
+    @JsonIgnoreProperties({"hibernateLazyInitializer"})
     private Post post;     // 어떤 게시글의 댓글인지
 
-    @ManyToOne
+    /**
+     * 게시글의 학교 ID (비정규화 - 학교 단위 조회를 조인 없이 처리)
+     */
+    @Column(name = "school_id")
+    private Long schoolId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id", referencedColumnName = "id") // FK: comments.id
+    @JsonIgnoreProperties({"hibernateLazyInitializer"})
     private Comment parent;   // 부모 댓글 (null이면 일반 댓글, 값이 있으면 대댓글)
 
     private LocalDateTime createdAt = LocalDateTime.now(); // 기본값 현재시간
@@ -42,4 +65,13 @@ public class Comment {
 
     private String authorName;
 
+    /**
+     * 좋아요/싫어요 수 (비정규화 카운터, 좋아요 토글 시 원자적으로 갱신)
+     */
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0;
+
+    @Column(name = "dislike_count", nullable = false)
+    private long dislikeCount = 0;
+
 }
@@ -0,0 +1,37 @@
+package com.cloudproject.community_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 댓글 리액션 (사용자별 기록, 집계는 CommentReactionCount)
+ * - (comment_id, user_id, reaction_type) 유니크 제약으로 같은 리액션 중복 방지
+ * - 클릭마다 서로 다른 행을 추가만 하므로 인기 댓글에서도 같은 행 잠금 경합 없음
+ */
+@Entity
+@Table(
+    name = "comment_reactions",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "user_id", "reaction_type"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentReaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "comment_id", nullable = false)
+    private Comment comment;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reaction_type", nullable = false, length = 10)
+    private CommentReactionType type;
+}
@@ -0,0 +1,38 @@
+package com.cloudproject.community_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 댓글 리액션 종류별 누적 수 (CommentReactionCounter가 주기적으로 일괄 반영)
+ */
+@Entity
+@Table(
+    name = "comment_reaction_counts",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "reaction_type"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentReactionCount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reaction_type", nullable = false, length = 10)
+    private CommentReactionType type;
+
+    @Column(name = "reaction_count", nullable = false)
+    private long reactionCount = 0;
+
+    public CommentReactionCount(Long commentId, CommentReactionType type) {
+        this.commentId = commentId;
+        this.type = type;
+    }
+}
@@ -0,0 +1,19 @@
+package com.cloudproject.community_backend.entity;
+
+import lombok.Getter;
+
+/**
+ * 댓글 리액션 종류 (좋아요/싫어요와 별개의 긍정 리액션)
+ */
+@Getter
+public enum CommentReactionType {
+    HELPFUL("도움됐어요"),
+    KIND("친절해요"),
+    CLEAR("명확해요");
+
+    private final String description;
+
+    CommentReactionType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cloudproject.community_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 참여자 / 대기자
+ * - (post_id, user_id) 유니크 제약으로 같은 사용자의 중복 참여 방지
+ * - 대기 순서는 id 순 (먼저 신청한 사람이 먼저 승격)
+ */
+@Entity
+@Table(
+    name = "meeting_participants",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}),
+    indexes = {
+        // 대기열 맨 앞 조회 / 참여자 목록 조회용
+        @Index(name = "idx_meeting_participant_status", columnList = "post_id, status, id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class MeetingParticipant {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MeetingParticipantStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
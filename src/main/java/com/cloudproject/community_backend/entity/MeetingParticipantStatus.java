@@ -0,0 +1,18 @@
+package com.cloudproject.community_backend.entity;
+
+import lombok.Getter;
+
+/**
+ * 모임 참여 상태
+ */
+@Getter
+public enum MeetingParticipantStatus {
+    JOINED("참여"),
+    WAITLISTED("대기");
+
+    private final String description;
+
+    MeetingParticipantStatus(String description) {
+        this.description = description;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
@@ -16,7 +17,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "meeting_post_details")
+@Table(
+    name = "meeting_post_details",
+    indexes = {
+        // 일정 구간 조회용 (다가오는 모임 / 캘린더)
+        @Index(name = "idx_meeting_schedule", columnList = "meeting_schedule, post_id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
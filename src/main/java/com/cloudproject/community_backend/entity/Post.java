@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -23,6 +25,19 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(
+    name = "post",
+    indexes = {
+        // 피드 keyset 페이징용 (게시판별 / 전체 최신순)
+        @Index(name = "idx_post_board_created", columnList = "board_type, created_at, id"),
+        @Index(name = "idx_post_created", columnList = "created_at, id"),
+        // 학교별 피드 keyset 페이징용 (학교+게시판별 / 학교 전체 최신순)
+        @Index(name = "idx_post_school_board_created", columnList = "school_id, board_type, created_at, id"),
+        @Index(name = "idx_post_school_created", columnList = "school_id, created_at, id"),
+        // 삭제 표시된 게시물 정리 대상 조회용
+        @Index(name = "idx_post_deleted_at", columnList = "deleted_at")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,10 +49,21 @@ public class Post {
     private String title;
     private String content;
 
-    @ManyToOne
+    /**
+     * 작성자 (지연 로딩 - 함께 필요한 조회는 PostRepository의 EntityGraph 메서드 사용)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", referencedColumnName = "id")
+    @JsonIgnoreProperties({"hibernateLazyInitializer"})
     private User author;
 
+    /**
+     * 작성자 학교 ID (비정규화 - 학교별 피드를 users 조인 없이 인덱스로 조회)
+     * 작성 시 작성자 학교로 채우고, 이전 게시물은 SchoolIdBackfillService가 채움
+     */
+    @Column(name = "school_id")
+    private Long schoolId;
+
     @Column(name = "is_bad", nullable = false)
     private boolean isBad = false;
 
@@ -73,6 +99,40 @@ public class Post {
     @Column(name = "author_display_name")
     private String authorDisplayName;
 
+    /**
+     * 좋아요/싫어요/댓글 수 (비정규화 카운터)
+     * - 좋아요 토글, 댓글 작성 시 UPDATE ... SET x = x + 1 로 원자적으로 갱신
+     * - 어긋난 값은 CounterReconciliationService가 주기적으로 보정
+     */
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0;
+
+    @Column(name = "dislike_count", nullable = false)
+    private long dislikeCount = 0;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount = 0;
+
+    /**
+     * 조회수 (모든 게시판 공통, PostViewCounter가 메모리에 모은 뒤 주기적으로 일괄 반영)
+     */
+    @Column(name = "view_count", nullable = false)
+    private long viewCount = 0;
+
+    /**
+     * 게시물 버전 (ETag용)
+     * - 게시물, 댓글, 좋아요/댓글 카운터가 바뀔 때마다 1씩 증가
+     * - 조회수 변경은 제외 (조회할 때마다 캐시가 무효화되지 않도록)
+     */
+    @Column(name = "version", nullable = false)
+    private long version = 0;
+
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * 삭제 시각 (null이 아니면 모든 조회에서 제외, 댓글/좋아요와 함께 PostPurgeService가 나중에 제거)
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
 
@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
@@ -15,7 +16,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "question_post_details")
+@Table(
+    name = "question_post_details",
+    indexes = {
+        // 카테고리별 질문 피드 keyset 페이징용 (게시물 ID 역순)
+        @Index(name = "idx_question_category_post", columnList = "category_name, post_id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +44,9 @@ public class QuestionPostDetail {
     @Column(name = "is_for_seniors_only")
     private boolean forSeniorsOnly = false;
 
+    /**
+     * 이전 버전 조회수 컬럼 (현재 조회수는 Post.viewCount에 집계)
+     */
     @Column(name = "view_count")
     private Integer viewCount = 0;
 }
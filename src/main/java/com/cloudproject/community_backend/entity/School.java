@@ -19,6 +19,10 @@ public class School {
     private Long id;
 
     private String name; // 학교 이름
+
+    @Column(name = "english_name")
+    private String englishName; // 영문(로마자) 학교 이름 - 학생증 OCR 매칭용
+
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 }
@@ -0,0 +1,20 @@
+package com.cloudproject.community_backend.entity;
+
+import lombok.Getter;
+
+/**
+ * 학생증 인증 작업 상태
+ */
+@Getter
+public enum VerificationJobStatus {
+    PENDING("대기중"),
+    RUNNING("처리중"),
+    SUCCEEDED("성공"),
+    FAILED("실패");
+
+    private final String description;
+
+    VerificationJobStatus(String description) {
+        this.description = description;
+    }
+}
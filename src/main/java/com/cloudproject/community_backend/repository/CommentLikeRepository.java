@@ -1,15 +1,36 @@
 package com.cloudproject.community_backend.repository;
 
+import com.cloudproject.community_backend.dto.CommentLikeState;
 import com.cloudproject.community_backend.entity.Comment;
 import com.cloudproject.community_backend.entity.CommentLike;
 import com.cloudproject.community_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     Optional<CommentLike> findByCommentAndUser(Comment comment, User user);
     long countByCommentAndLiked(Comment comment, boolean liked);
 
+    /**
+     * 게시물 댓글에 달린 좋아요 ID 일부 (삭제 게시물 정리용, pageable 크기만큼)
+     */
+    @Query("select l.id from CommentLike l where l.comment.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시물의 댓글 중 사용자가 반응한 댓글 (댓글마다 조회하지 않고 한 번에)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.CommentLikeState(l.comment.id, l.liked)
+        from CommentLike l
+        where l.comment.post.id = :postId and l.user.email = :email
+        """)
+    List<CommentLikeState> findStatesByPostIdAndUserEmail(@Param("postId") Long postId, @Param("email") String email);
+
 
 }
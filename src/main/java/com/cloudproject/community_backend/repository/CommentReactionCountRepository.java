@@ -0,0 +1,97 @@
+package com.cloudproject.community_backend.repository;
+
+import com.cloudproject.community_backend.entity.CommentReactionCount;
+import com.cloudproject.community_backend.entity.CommentReactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CommentReactionCountRepository extends JpaRepository<CommentReactionCount, Long> {
+
+    List<CommentReactionCount> findByCommentId(Long commentId);
+
+    /**
+     * 집계 행이 이미 있는 댓글 ID (일괄 반영 전 없는 행만 새로 만들기 위해)
+     */
+    @Query("select c.commentId from CommentReactionCount c where c.type = :type and c.commentId in :commentIds")
+    List<Long> findExistingCommentIds(
+        @Param("type") CommentReactionType type,
+        @Param("commentIds") List<Long> commentIds
+    );
+
+    /**
+     * 같은 증가량의 댓글들을 한 번에 반영
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update CommentReactionCount c set c.reactionCount = c.reactionCount + :delta
+        where c.type = :type and c.commentId in :commentIds
+        """)
+    int incrementCounts(
+        @Param("type") CommentReactionType type,
+        @Param("commentIds") List<Long> commentIds,
+        @Param("delta") long delta
+    );
+
+    @Query("select max(c.commentId) from CommentReactionCount c")
+    Long findMaxCommentId();
+
+    /**
+     * 댓글 id 구간에서 리액션은 있는데 집계 행이 없는 (댓글, 종류)에 0짜리 집계 행 생성
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        insert into CommentReactionCount (commentId, type, reactionCount)
+        select r.comment.id, r.type, 0 from CommentReaction r
+        where r.comment.id > :fromId and r.comment.id <= :toId
+          and not exists (
+              select 1 from CommentReactionCount c
+              where c.commentId = r.comment.id and c.type = r.type
+          )
+        group by r.comment.id, r.type
+        """)
+    int createMissingCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 댓글 id 구간의 집계 값을 실제 리액션 행 수로 보정
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update CommentReactionCount c
+        set c.reactionCount = (
+            select count(r) from CommentReaction r
+            where r.comment.id = c.commentId and r.type = c.type
+        )
+        where c.commentId > :fromId and c.commentId <= :toId
+        """)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 댓글 id 구간에서 댓글이 이미 삭제된 집계 행 제거
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from CommentReactionCount c
+        where c.commentId > :fromId and c.commentId <= :toId
+          and not exists (select 1 from Comment cm where cm.id = c.commentId)
+        """)
+    int deleteOrphans(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 게시물 댓글의 집계 행 ID 일부 (삭제 게시물 정리용, 댓글 삭제 전에 실행)
+     */
+    @Query("""
+        select c.id from CommentReactionCount c
+        where c.commentId in (select cm.id from Comment cm where cm.post.id = :postId)
+        """)
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+}
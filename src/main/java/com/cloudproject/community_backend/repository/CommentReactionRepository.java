@@ -0,0 +1,29 @@
+package com.cloudproject.community_backend.repository;
+
+import com.cloudproject.community_backend.entity.CommentReaction;
+import com.cloudproject.community_backend.entity.CommentReactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CommentReactionRepository extends JpaRepository<CommentReaction, Long> {
+
+    @Query("""
+        select count(r) > 0 from CommentReaction r
+        where r.comment.id = :commentId and r.user.id = :userId and r.type = :type
+        """)
+    boolean existsByCommentIdAndUserIdAndType(
+        @Param("commentId") Long commentId,
+        @Param("userId") Long userId,
+        @Param("type") CommentReactionType type
+    );
+
+    /**
+     * 게시물 댓글에 달린 리액션 ID 일부 (삭제 게시물 정리용, pageable 크기만큼)
+     */
+    @Query("select r.id from CommentReaction r where r.comment.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+}
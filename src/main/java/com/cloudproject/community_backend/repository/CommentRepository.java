@@ -1,13 +1,248 @@
 package com.cloudproject.community_backend.repository;
 
+import com.cloudproject.community_backend.dto.CommentExportRow;
+import com.cloudproject.community_backend.dto.CommentViewResponse;
+import com.cloudproject.community_backend.dto.LikeCountResponse;
 import com.cloudproject.community_backend.entity.Comment;
 import com.cloudproject.community_backend.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     long countByIsBad(boolean isBad);
+
+    @EntityGraph(attributePaths = {"author", "post", "post.meetingDetails", "post.questionDetails", "parent"})
     List<Comment> findByPost(Post post);
+
+    /**
+     * 게시물 댓글 엔티티 목록 (작성자/게시글/부모 포함, 쿼리 1회)
+     * 게시글의 모임/질문 정보는 mappedBy @OneToOne이라 지연 로딩이 되지 않으므로 함께 조회
+     */
+    @EntityGraph(attributePaths = {"author", "post", "post.meetingDetails", "post.questionDetails", "parent"})
     List<Comment> findByPostId(Long postId);
+
+    /**
+     * 삭제되지 않은 게시물의 댓글 엔티티 단건 조회
+     */
+    @Query("select c from Comment c where c.id = :id and c.post.deletedAt is null")
+    Optional<Comment> findActiveById(@Param("id") Long id);
+
+    /**
+     * 삭제되지 않은 게시물의 댓글인지 확인 (엔티티 로딩 없음)
+     */
+    @Query("select count(c) > 0 from Comment c where c.id = :id and c.post.deletedAt is null")
+    boolean existsActiveById(@Param("id") Long id);
+
+    /**
+     * 게시물 댓글 ID 일부 (삭제 게시물 정리용, pageable 크기만큼)
+     */
+    @Query("select c.id from Comment c where c.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 부모가 있는 게시물 댓글 ID 일부 (삭제 전 부모 참조 해제용)
+     */
+    @Query("select c.id from Comment c where c.post.id = :postId and c.parent is not null")
+    List<Long> findReplyIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 대댓글의 부모 참조 해제 (댓글을 나눠 지울 때 FK 위반 방지)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.parent = null where c.id in :ids")
+    int detachFromParents(@Param("ids") List<Long> ids);
+
+    /**
+     * 화면용 댓글 DTO select 절 (작성자/부모 엔티티 로딩 없음)
+     */
+    String VIEW_SELECT = """
+        select new com.cloudproject.community_backend.dto.CommentViewResponse(
+            c.id, c.parent.id, c.content, c.author.id, c.authorName,
+            c.isBad, c.likeCount, c.dislikeCount, c.createdAt
+        )
+        from Comment c
+        """;
+
+    /**
+     * 삭제되지 않은 게시물의 댓글만 (게시물 조인)
+     */
+    String ACTIVE_POST = "c.post.deletedAt is null";
+
+    /**
+     * 게시물의 댓글을 화면용 DTO로 한 번에 조회 (작성순)
+     */
+    @Query(VIEW_SELECT + "where c.post.id = :postId order by c.createdAt, c.id")
+    List<CommentViewResponse> findViewsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시물 댓글 목록 첫 페이지 (작성순, idx_comment_post_created 사용)
+     */
+    @Query(VIEW_SELECT + "where c.post.id = :postId order by c.createdAt, c.id")
+    List<CommentViewResponse> findPostViews(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시물 댓글 목록 커서 이후 페이지
+     */
+    @Query(VIEW_SELECT
+        + "where c.post.id = :postId and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))"
+        + " order by c.createdAt, c.id")
+    List<CommentViewResponse> findPostViewsAfter(
+        @Param("postId") Long postId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 전체 댓글 최신순 첫 페이지 (PK 역순, 삭제된 게시물의 댓글 제외)
+     */
+    @Query(VIEW_SELECT + "where " + ACTIVE_POST + " order by c.id desc")
+    List<CommentViewResponse> findLatestViews(Pageable pageable);
+
+    /**
+     * 전체 댓글 커서 이전 페이지
+     */
+    @Query(VIEW_SELECT + "where c.id < :id and " + ACTIVE_POST + " order by c.id desc")
+    List<CommentViewResponse> findLatestViewsBefore(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 부적절 판정 댓글 최신순 첫 페이지 (idx_comment_bad_created 사용)
+     */
+    @Query(VIEW_SELECT + "where c.isBad = true order by c.createdAt desc, c.id desc")
+    List<CommentViewResponse> findBadViews(Pageable pageable);
+
+    /**
+     * 부적절 판정 댓글 커서 이후 페이지
+     */
+    @Query(VIEW_SELECT
+        + "where c.isBad = true and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))"
+        + " order by c.createdAt desc, c.id desc")
+    List<CommentViewResponse> findBadViewsAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 내보내기용 댓글 배치 (id 순 keyset, 엔티티 로딩 없음)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.CommentExportRow(
+            c.id, c.post.id, c.parent.id, c.author.id, c.authorName, c.content,
+            c.isBad, c.likeCount, c.dislikeCount, c.createdAt
+        )
+        from Comment c
+        where c.id > :id
+        order by c.id
+        """)
+    List<CommentExportRow> findExportRowsAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 게시물 일반 댓글 첫 페이지 (작성순, idx_comment_post_parent 사용)
+     */
+    @Query(VIEW_SELECT + "where c.post.id = :postId and c.parent is null order by c.id")
+    List<CommentViewResponse> findRootViews(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시물 일반 댓글 커서 이후 페이지
+     */
+    @Query(VIEW_SELECT + "where c.post.id = :postId and c.parent is null and c.id > :id order by c.id")
+    List<CommentViewResponse> findRootViewsAfter(@Param("postId") Long postId, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 여러 댓글의 대댓글을 부모별 작성순 앞에서 perParent개까지만 한 번에 조회
+     * (ROW_NUMBER로 부모마다 잘라 대댓글이 많은 스레드도 전체를 읽지 않음, idx_comment_post_parent 사용)
+     */
+    @Query(VIEW_SELECT + """
+        where c.id in (
+            select r.id from (
+                select reply.id as id,
+                       row_number() over (partition by reply.parent.id order by reply.id) as rn
+                from Comment reply
+                where reply.post.id = :postId and reply.parent.id in :parentIds
+            ) r
+            where r.rn <= :perParent
+        )
+        order by c.parent.id, c.id
+        """)
+    List<CommentViewResponse> findReplyViews(
+        @Param("postId") Long postId,
+        @Param("parentIds") List<Long> parentIds,
+        @Param("perParent") int perParent
+    );
+
+    /**
+     * 한 댓글의 대댓글 커서 이후 페이지 ("답글 더 보기", 삭제된 게시물이면 빈 목록)
+     */
+    @Query(VIEW_SELECT + "where c.parent.id = :parentId and c.id > :id and " + ACTIVE_POST + " order by c.id")
+    List<CommentViewResponse> findReplyViewsAfter(@Param("parentId") Long parentId, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 좋아요/싫어요 수 원자적 증감
+     */
+    @Modifying
+    @Query("""
+        update Comment c
+        set c.likeCount = c.likeCount + :likeDelta, c.dislikeCount = c.dislikeCount + :dislikeDelta
+        where c.id = :id
+        """)
+    int adjustLikeCounts(
+        @Param("id") Long id,
+        @Param("likeDelta") long likeDelta,
+        @Param("dislikeDelta") long dislikeDelta
+    );
+
+    /**
+     * 부적절 표시 (해당 컬럼만 갱신해 좋아요/싫어요 카운터를 로딩 시점 값으로 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query("update Comment c set c.isBad = true where c.id = :id")
+    int markBad(@Param("id") Long id);
+
+    @Query("select new com.cloudproject.community_backend.dto.LikeCountResponse(c.likeCount, c.dislikeCount) from Comment c where c.id = :id")
+    Optional<LikeCountResponse> findLikeCounts(@Param("id") Long id);
+
+    @Query("select max(c.id) from Comment c")
+    Long findMaxId();
+
+    /**
+     * 아직 남아 있는 댓글 ID (삭제된 댓글의 집계 행을 다시 만들지 않도록)
+     */
+    @Query("select c.id from Comment c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+
+    /**
+     * id 구간의 좋아요/싫어요 수를 실제 좋아요 행 수로 보정 (구간마다 별도 트랜잭션)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update Comment c
+        set c.likeCount = (select count(l) from CommentLike l where l.comment = c and l.liked = true),
+            c.dislikeCount = (select count(l) from CommentLike l where l.comment = c and l.liked = false)
+        where c.id > :fromId and c.id <= :toId
+        """)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * id 구간의 비어 있는 학교 ID를 게시글 학교로 채움 (게시물 보정 이후 실행)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update Comment c
+        set c.schoolId = (select p.schoolId from Post p where p = c.post)
+        where c.schoolId is null and c.id > :fromId and c.id <= :toId
+        """)
+    int backfillSchoolIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,51 @@
+package com.cloudproject.community_backend.repository;
+
+import com.cloudproject.community_backend.dto.MeetingParticipantResponse;
+import com.cloudproject.community_backend.entity.MeetingParticipant;
+import com.cloudproject.community_backend.entity.MeetingParticipantStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long> {
+
+    @Query("select p from MeetingParticipant p where p.post.id = :postId and p.user.id = :userId")
+    Optional<MeetingParticipant> findByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    long countByPostIdAndStatus(Long postId, MeetingParticipantStatus status);
+
+    /**
+     * 대기열 맨 앞 (잠금 조회 - 동시에 취소가 일어나도 한 명만 승격)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select p from MeetingParticipant p
+        where p.post.id = :postId and p.status = com.cloudproject.community_backend.entity.MeetingParticipantStatus.WAITLISTED
+        order by p.id
+        """)
+    List<MeetingParticipant> findWaitlistHead(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 참여자 목록 (참여자 먼저, 각 상태 안에서는 신청 순)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.MeetingParticipantResponse(u.id, u.username, p.status, p.createdAt)
+        from MeetingParticipant p
+        join p.user u
+        where p.post.id = :postId
+        order by p.status, p.id
+        """)
+    List<MeetingParticipantResponse> findResponsesByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시물 참여 기록 ID 일부 (삭제 게시물 정리용, pageable 크기만큼)
+     */
+    @Query("select p.id from MeetingParticipant p where p.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+}
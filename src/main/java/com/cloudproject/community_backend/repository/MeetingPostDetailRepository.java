@@ -0,0 +1,41 @@
+package com.cloudproject.community_backend.repository;
+
+import com.cloudproject.community_backend.entity.MeetingPostDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MeetingPostDetailRepository extends JpaRepository<MeetingPostDetail, Long> {
+
+    /**
+     * 빈 자리가 있을 때만 참여 인원 +1 (조건부 UPDATE 한 번으로 정원 초과 방지)
+     * @return 1이면 자리 확보, 0이면 정원 마감
+     */
+    @Modifying
+    @Query("""
+        update MeetingPostDetail m
+        set m.currentParticipants = coalesce(m.currentParticipants, 0) + 1
+        where m.id = :postId and (m.capacity is null or coalesce(m.currentParticipants, 0) < m.capacity)
+        """)
+    int reserveSeat(@Param("postId") Long postId);
+
+    /**
+     * 참여 인원 -1 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("""
+        update MeetingPostDetail m
+        set m.currentParticipants = m.currentParticipants - 1
+        where m.id = :postId and m.currentParticipants > 0
+        """)
+    int releaseSeat(@Param("postId") Long postId);
+
+    /**
+     * 현재 참여 인원 (영속성 컨텍스트가 아닌 DB 값)
+     */
+    @Query("select coalesce(m.currentParticipants, 0) from MeetingPostDetail m where m.id = :postId")
+    Optional<Integer> findCurrentParticipants(@Param("postId") Long postId);
+}
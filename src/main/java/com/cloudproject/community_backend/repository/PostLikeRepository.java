@@ -3,10 +3,26 @@ package com.cloudproject.community_backend.repository;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.PostLike;
 import com.cloudproject.community_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPostAndUser(Post post, User user);
     long countByPostAndLiked(Post post, boolean liked);
+
+    /**
+     * 게시물에 달린 좋아요 ID 일부 (삭제 게시물 정리용, pageable 크기만큼)
+     */
+    @Query("select l.id from PostLike l where l.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 사용자가 누른 게시물 반응 (true = 좋아요, false = 싫어요, 없으면 empty)
+     */
+    @Query("select l.liked from PostLike l where l.post.id = :postId and l.user.email = :email")
+    Optional<Boolean> findLikedByPostIdAndUserEmail(@Param("postId") Long postId, @Param("email") String email);
 }
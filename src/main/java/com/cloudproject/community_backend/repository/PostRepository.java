@@ -1,12 +1,413 @@
 package com.cloudproject.community_backend.repository;
 
+import com.cloudproject.community_backend.dto.LikeCountResponse;
+import com.cloudproject.community_backend.dto.PostDetailResponse;
+import com.cloudproject.community_backend.dto.PostSearchSource;
+import com.cloudproject.community_backend.dto.PostSearchState;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.dto.QuestionCategoryCount;
+import com.cloudproject.community_backend.dto.PostTrendingSource;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.PostBoardType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByBoardType(PostBoardType boardType);
+    /**
+     * 게시판별 게시물 엔티티 조회 (작성자/모임/질문 정보를 조인 한 번으로 함께 로딩)
+     * mappedBy 쪽 @OneToOne은 지연 로딩이 되지 않아 fetch plan 없이 조회하면 게시물마다 추가 쿼리 발생
+     */
+    @EntityGraph(attributePaths = {"author", "meetingDetails", "questionDetails"})
+    @Query("select p from Post p where p.boardType = :boardType and p.deletedAt is null")
+    List<Post> findByBoardType(@Param("boardType") PostBoardType boardType);
+
+    /**
+     * 게시물 엔티티 단건 조회 (작성자/모임/질문 정보 포함, 쿼리 1회, 삭제된 게시물 제외)
+     */
+    @EntityGraph(attributePaths = {"author", "meetingDetails", "questionDetails"})
+    @Query("select p from Post p where p.id = :id and p.deletedAt is null")
+    Optional<Post> findWithDetailsById(@Param("id") Long id);
+
+    /**
+     * 삭제되지 않은 게시물 엔티티 단건 조회
+     */
+    @Query("select p from Post p where p.id = :id and p.deletedAt is null")
+    Optional<Post> findActiveById(@Param("id") Long id);
+
     long countByIsBad(boolean isBad);
+
+    /**
+     * 목록 DTO select 절 (작성자/모임/질문 정보를 조인 한 번으로 조회)
+     */
+    String SUMMARY_SELECT = """
+        select new com.cloudproject.community_backend.dto.PostSummaryResponse(
+            p.id, p.boardType, p.title,
+            a.id, a.username, p.authorDisplayName,
+            p.isAnonymous, p.seniorOnlyComment, p.isBad,
+            p.likeCount, p.dislikeCount, p.commentCount, p.viewCount, p.createdAt,
+            m.schedule, m.location, m.capacity, m.currentParticipants,
+            q.categoryName, q.forSeniorsOnly
+        )
+        from Post p
+        left join p.author a
+        left join p.meetingDetails m
+        left join p.questionDetails q
+        """;
+
+    String FEED_ORDER = " order by p.createdAt desc, p.id desc";
+
+    /**
+     * 삭제 표시된 게시물 제외 (실제 행은 PostPurgeService가 나중에 제거)
+     */
+    String NOT_DELETED = "p.deletedAt is null";
+
+    String AFTER_CURSOR = "(p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))";
+
+    /**
+     * 전체 피드 첫 페이지 (최신순, idx_post_created 사용)
+     */
+    @Query(SUMMARY_SELECT + "where " + NOT_DELETED + FEED_ORDER)
+    List<PostSummaryResponse> findFeed(Pageable pageable);
+
+    /**
+     * 전체 피드 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT + "where " + NOT_DELETED + " and " + AFTER_CURSOR + FEED_ORDER)
+    List<PostSummaryResponse> findFeedAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 게시판별 피드 첫 페이지 (최신순, idx_post_board_created 사용)
+     */
+    @Query(SUMMARY_SELECT + "where p.boardType = :boardType and " + NOT_DELETED + FEED_ORDER)
+    List<PostSummaryResponse> findFeedByBoardType(@Param("boardType") PostBoardType boardType, Pageable pageable);
+
+    /**
+     * 게시판별 피드 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT + "where p.boardType = :boardType and " + NOT_DELETED + " and " + AFTER_CURSOR + FEED_ORDER)
+    List<PostSummaryResponse> findFeedByBoardTypeAfter(
+        @Param("boardType") PostBoardType boardType,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 학교 피드 첫 페이지 (최신순, idx_post_school_created 사용)
+     */
+    @Query(SUMMARY_SELECT + "where p.schoolId = :schoolId and " + NOT_DELETED + FEED_ORDER)
+    List<PostSummaryResponse> findSchoolFeed(@Param("schoolId") Long schoolId, Pageable pageable);
+
+    /**
+     * 학교 피드 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT + "where p.schoolId = :schoolId and " + NOT_DELETED + " and " + AFTER_CURSOR + FEED_ORDER)
+    List<PostSummaryResponse> findSchoolFeedAfter(
+        @Param("schoolId") Long schoolId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 학교+게시판별 피드 첫 페이지 (최신순, idx_post_school_board_created 사용)
+     */
+    @Query(SUMMARY_SELECT + "where p.schoolId = :schoolId and p.boardType = :boardType and " + NOT_DELETED + FEED_ORDER)
+    List<PostSummaryResponse> findSchoolFeedByBoardType(
+        @Param("schoolId") Long schoolId,
+        @Param("boardType") PostBoardType boardType,
+        Pageable pageable
+    );
+
+    /**
+     * 학교+게시판별 피드 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT + "where p.schoolId = :schoolId and p.boardType = :boardType and " + NOT_DELETED + " and " + AFTER_CURSOR + FEED_ORDER)
+    List<PostSummaryResponse> findSchoolFeedByBoardTypeAfter(
+        @Param("schoolId") Long schoolId,
+        @Param("boardType") PostBoardType boardType,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    String CATEGORY_ORDER = " order by q.id desc";
+
+    /**
+     * 카테고리별 질문 피드 첫 페이지 (게시물 ID 역순 = 작성 순, idx_question_category_post 사용)
+     */
+    @Query(SUMMARY_SELECT + "where q.categoryName = :category and " + NOT_DELETED + CATEGORY_ORDER)
+    List<PostSummaryResponse> findQuestionFeedByCategory(@Param("category") String category, Pageable pageable);
+
+    /**
+     * 카테고리별 질문 피드 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT + "where q.categoryName = :category and q.id < :id and " + NOT_DELETED + CATEGORY_ORDER)
+    List<PostSummaryResponse> findQuestionFeedByCategoryAfter(
+        @Param("category") String category,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 학교+카테고리별 질문 피드 첫 페이지
+     */
+    @Query(SUMMARY_SELECT + "where q.categoryName = :category and p.schoolId = :schoolId and " + NOT_DELETED + CATEGORY_ORDER)
+    List<PostSummaryResponse> findSchoolQuestionFeedByCategory(
+        @Param("schoolId") Long schoolId,
+        @Param("category") String category,
+        Pageable pageable
+    );
+
+    /**
+     * 학교+카테고리별 질문 피드 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT
+        + "where q.categoryName = :category and p.schoolId = :schoolId and q.id < :id and " + NOT_DELETED + CATEGORY_ORDER)
+    List<PostSummaryResponse> findSchoolQuestionFeedByCategoryAfter(
+        @Param("schoolId") Long schoolId,
+        @Param("category") String category,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 학교+카테고리별 질문 수 (카테고리 패싯 초기 적재용, 삭제 표시 제외)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.QuestionCategoryCount(p.schoolId, q.categoryName, count(q))
+        from QuestionPostDetail q
+        join q.post p
+        where q.categoryName is not null and p.deletedAt is null
+        group by p.schoolId, q.categoryName
+        """)
+    List<QuestionCategoryCount> countQuestionsByCategory();
+
+    /**
+     * 질문 카테고리 (질문 게시물이 아니면 없음)
+     */
+    @Query("select q.categoryName from QuestionPostDetail q where q.id = :postId")
+    Optional<String> findQuestionCategory(@Param("postId") Long postId);
+
+    String MEETING_ORDER = " order by m.schedule, p.id";
+
+    /**
+     * 일정 구간 [from, to) 모임 첫 페이지 (일정 순, idx_meeting_schedule 사용, 블라인드 제외)
+     */
+    @Query(SUMMARY_SELECT + "where m.schedule >= :from and m.schedule < :to and p.isBad = false and " + NOT_DELETED + MEETING_ORDER)
+    List<PostSummaryResponse> findMeetingsBetween(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        Pageable pageable
+    );
+
+    /**
+     * 일정 구간 모임 커서 이후 페이지
+     */
+    @Query(SUMMARY_SELECT
+        + "where (m.schedule > :schedule or (m.schedule = :schedule and p.id > :id)) and m.schedule < :to"
+        + " and p.isBad = false and " + NOT_DELETED + MEETING_ORDER)
+    List<PostSummaryResponse> findMeetingsAfter(
+        @Param("schedule") LocalDateTime schedule,
+        @Param("id") Long id,
+        @Param("to") LocalDateTime to,
+        Pageable pageable
+    );
+
+    /**
+     * ID 목록으로 목록 DTO 조회 (검색 결과 등, 순서는 호출 측에서 정렬)
+     */
+    @Query(SUMMARY_SELECT + "where p.id in :ids and " + NOT_DELETED)
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 검색 색인용 원문 조회 (id 순 keyset 배치)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.PostSearchSource(p.id, p.boardType, p.title, p.content, p.isBad)
+        from Post p
+        where p.id > :afterId and p.deletedAt is null
+        order by p.id
+        """)
+    List<PostSearchSource> findSearchSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 검색 인덱스 스냅샷 보정용 상태 조회 (id 순 keyset 배치, 삭제된 게시물은 제외)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.PostSearchState(p.id, p.isBad)
+        from Post p
+        where p.id > :afterId and p.id <= :maxId and p.deletedAt is null
+        order by p.id
+        """)
+    List<PostSearchState> findSearchStatesBetween(
+        @Param("afterId") Long afterId,
+        @Param("maxId") Long maxId,
+        Pageable pageable
+    );
+
+    /**
+     * 인기글 점수 복원용 최근 게시물 집계 값 (블라인드 제외)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.PostTrendingSource(
+            p.id, p.boardType, p.likeCount, p.commentCount, p.viewCount, p.createdAt
+        )
+        from Post p
+        where p.createdAt >= :since and p.isBad = false and p.deletedAt is null
+        """)
+    List<PostTrendingSource> findTrendingSources(@Param("since") LocalDateTime since);
+
+    /**
+     * 게시물 상세 DTO 조회 (본문 포함, 쿼리 1회)
+     */
+    @Query("""
+        select new com.cloudproject.community_backend.dto.PostDetailResponse(
+            p.id, p.boardType, p.title, p.content,
+            a.id, a.username, p.authorDisplayName,
+            p.isAnonymous, p.seniorOnlyComment, p.isBad,
+            p.likeCount, p.dislikeCount, p.commentCount, p.viewCount, p.createdAt,
+            m.schedule, m.location, m.capacity, m.currentParticipants,
+            q.categoryName, q.forSeniorsOnly
+        )
+        from Post p
+        left join p.author a
+        left join p.meetingDetails m
+        left join p.questionDetails q
+        where p.id = :id and p.deletedAt is null
+        """)
+    Optional<PostDetailResponse> findDetailById(@Param("id") Long id);
+
+    /**
+     * 좋아요/싫어요 수 원자적 증감 (행을 읽지 않고 UPDATE 한 번으로 처리)
+     */
+    @Modifying
+    @Query("""
+        update Post p
+        set p.likeCount = p.likeCount + :likeDelta, p.dislikeCount = p.dislikeCount + :dislikeDelta,
+            p.version = p.version + 1
+        where p.id = :id
+        """)
+    int adjustLikeCounts(
+        @Param("id") Long id,
+        @Param("likeDelta") long likeDelta,
+        @Param("dislikeDelta") long dislikeDelta
+    );
+
+    /**
+     * 댓글 수 원자적 증감
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta, p.version = p.version + 1 where p.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * 버퍼링된 조회수 일괄 반영 (같은 증가량의 게시물들을 한 번에 갱신)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + :delta where p.id in :ids")
+    int incrementViewCounts(@Param("ids") List<Long> ids, @Param("delta") long delta);
+
+    @Query("select new com.cloudproject.community_backend.dto.LikeCountResponse(p.likeCount, p.dislikeCount) from Post p where p.id = :id")
+    Optional<LikeCountResponse> findLikeCounts(@Param("id") Long id);
+
+    /**
+     * ETag 비교용 버전만 조회 (엔티티 로딩 없음)
+     */
+    @Query("select p.version from Post p where p.id = :id and p.deletedAt is null")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 게시물 버전 증가 (댓글 변경 등 게시물 행 외의 변경을 ETag에 반영)
+     */
+    @Modifying
+    @Query("update Post p set p.version = p.version + 1 where p.id = :id")
+    int bumpVersion(@Param("id") Long id);
+
+    @Query("select max(p.id) from Post p")
+    Long findMaxId();
+
+    /**
+     * id 구간의 카운터를 실제 좋아요/댓글 행 수로 보정 (구간마다 별도 트랜잭션)
+     * 값이 어긋난 게시물만 갱신 (버전을 올리지 않아 목록 ETag/캐시가 매일 무효화되지 않음)
+     * @return 보정된 게시물 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update Post p
+        set p.likeCount = (select count(l) from PostLike l where l.post = p and l.liked = true),
+            p.dislikeCount = (select count(l) from PostLike l where l.post = p and l.liked = false),
+            p.commentCount = (select count(c) from Comment c where c.post = p),
+            p.version = p.version + 1
+        where p.id > :fromId and p.id <= :toId
+          and (p.likeCount <> (select count(l) from PostLike l where l.post = p and l.liked = true)
+            or p.dislikeCount <> (select count(l) from PostLike l where l.post = p and l.liked = false)
+            or p.commentCount <> (select count(c) from Comment c where c.post = p))
+        """)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * id 구간의 비어 있는 학교 ID를 작성자 학교로 채움 (구간마다 별도 트랜잭션)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update Post p
+        set p.schoolId = (select u.school.id from User u where u = p.author)
+        where p.schoolId is null and p.id > :fromId and p.id <= :toId
+        """)
+    int backfillSchoolIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 삭제 표시 (행과 연관 데이터는 그대로 두고 모든 조회에서 제외, 실제 삭제는 PostPurgeService)
+     */
+    @Modifying
+    @Query("update Post p set p.deletedAt = :deletedAt, p.version = p.version + 1 where p.id = :id and p.deletedAt is null")
+    int markDeleted(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 블라인드 표시 (해당 컬럼만 갱신해 카운터 컬럼을 로딩 시점 값으로 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query("update Post p set p.isBad = true, p.version = p.version + 1 where p.id = :id and p.deletedAt is null")
+    int markBad(@Param("id") Long id);
+
+    /**
+     * 정리 대기 중인 삭제 게시물 (삭제 순)
+     */
+    @Query("select p.id from Post p where p.deletedAt is not null order by p.deletedAt, p.id")
+    List<Long> findDeletedIds(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MeetingPostDetail m where m.post.id = :postId")
+    int deleteMeetingDetail(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from QuestionPostDetail q where q.post.id = :postId")
+    int deleteQuestionDetail(@Param("postId") Long postId);
+
+    /**
+     * 삭제 표시된 게시물 행 제거 (연관 행을 모두 지운 뒤 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Post p where p.id = :id and p.deletedAt is not null")
+    int purgeDeleted(@Param("id") Long id);
 }
@@ -28,6 +28,10 @@ public class AdminService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final PostFeedCache postFeedCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTrendingService postTrendingService;
+    private final UpcomingMeetingIndex upcomingMeetingIndex;
     private final UserPenaltyRepository userPenaltyRepository;
 
     /**
@@ -126,13 +130,18 @@ public class AdminService {
     private Long markContentAsBad(TargetType targetType, Long targetId) {
         if (targetType == TargetType.POST) {
             Post post = postRepository.findById(targetId).orElseThrow();
-            post.setBad(true);
-            postRepository.save(post);
+            postRepository.markBad(post.getId());
+            postFeedCache.evict(post.getBoardType());
+            postSearchIndex.setBad(post.getId(), true);
+            postTrendingService.remove(post.getId());
+            upcomingMeetingIndex.remove(post.getId());
             return post.getAuthor().getId();
         } else if (targetType == TargetType.COMMENT) {
             Comment comment = commentRepository.findById(targetId).orElseThrow();
-            comment.setBad(true);
-            commentRepository.save(comment);
+            commentRepository.markBad(comment.getId());
+            if (comment.getPost() != null) {
+                postRepository.bumpVersion(comment.getPost().getId());
+            }
             return comment.getAuthor().getId();
         }
         return null;
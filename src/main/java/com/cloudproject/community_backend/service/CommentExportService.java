@@ -0,0 +1,59 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.CommentExportRow;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 관리자용 댓글 전체 내보내기
+ * - id 순 keyset 배치로 읽어 한 줄에 하나씩 NDJSON으로 바로 출력 (전체를 메모리에 올리지 않음)
+ * - 배치마다 짧은 조회만 실행하므로 내보내는 동안 트랜잭션/커넥션을 붙잡지 않음
+ */
+@Service
+public class CommentExportService {
+
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public CommentExportService(
+        CommentRepository commentRepository,
+        ObjectMapper objectMapper,
+        @Value("${comment.export.batch-size:1000}") int batchSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return 내보낸 댓글 수
+     */
+    public long export(OutputStream out) throws IOException {
+        PageRequest page = PageRequest.of(0, batchSize);
+        long exported = 0;
+        long lastId = 0;
+        while (true) {
+            List<CommentExportRow> rows = commentRepository.findExportRowsAfter(lastId, page);
+            for (CommentExportRow row : rows) {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write('\n');
+            }
+            exported += rows.size();
+            if (rows.size() < batchSize) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+            out.flush();
+        }
+        out.flush();
+        return exported;
+    }
+}
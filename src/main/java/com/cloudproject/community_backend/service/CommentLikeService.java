@@ -1,11 +1,15 @@
 package com.cloudproject.community_backend.service;
 
+import com.cloudproject.community_backend.dto.LikeCountResponse;
 import com.cloudproject.community_backend.entity.Comment;
 import com.cloudproject.community_backend.entity.CommentLike;
 import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.CommentLikeRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,19 +18,34 @@ import java.util.Optional;
 public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
 
+    /**
+     * 좋아요/싫어요 토글 + 댓글 카운터 원자적 갱신
+     */
+    @Transactional
     public void toggleLike(Comment comment, User user, boolean isLike) {
         Optional<CommentLike> existing = commentLikeRepository.findByCommentAndUser(comment, user);
+        long likeDelta = 0;
+        long dislikeDelta = 0;
 
         if (existing.isPresent()) {
             CommentLike like = existing.get();
             if (like.isLiked() == isLike) {  // getter 수정
                 // 같은 버튼 다시 누르면 취소
                 commentLikeRepository.delete(like);
+                if (isLike) {
+                    likeDelta = -1;
+                } else {
+                    dislikeDelta = -1;
+                }
             } else {
                 // 반대 버튼 눌렀을 경우 변경
                 like.setLiked(isLike);      // setter 수정
                 commentLikeRepository.save(like);
+                likeDelta = isLike ? 1 : -1;
+                dislikeDelta = -likeDelta;
             }
         } else {
             // 처음 누름
@@ -35,14 +54,25 @@ public class CommentLikeService {
             newLike.setUser(user);
             newLike.setLiked(isLike);       // setter 수정
             commentLikeRepository.save(newLike);
+            if (isLike) {
+                likeDelta = 1;
+            } else {
+                dislikeDelta = 1;
+            }
         }
-    }
 
-    public long getLikeCount(Comment comment) {
-        return commentLikeRepository.countByCommentAndLiked(comment, true);
+        commentRepository.adjustLikeCounts(comment.getId(), likeDelta, dislikeDelta);
+        if (comment.getPost() != null) {
+            postRepository.bumpVersion(comment.getPost().getId());
+        }
     }
 
-    public long getDislikeCount(Comment comment) {
-        return commentLikeRepository.countByCommentAndLiked(comment, false);
+    /**
+     * 좋아요/싫어요 수 (카운터 컬럼 조회, 좋아요 행을 세지 않음)
+     */
+    @Transactional(readOnly = true)
+    public LikeCountResponse getLikeCounts(Comment comment) {
+        return commentRepository.findLikeCounts(comment.getId())
+            .orElseGet(() -> new LikeCountResponse(0, 0));
     }
 }
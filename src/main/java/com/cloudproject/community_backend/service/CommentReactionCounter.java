@@ -0,0 +1,204 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.entity.CommentReactionCount;
+import com.cloudproject.community_backend.entity.CommentReactionType;
+import com.cloudproject.community_backend.repository.CommentReactionCountRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * 댓글 리액션 수 버퍼
+ * - 리액션 시 (댓글, 종류)별 AtomicLong에만 누적해 집계 행 잠금 경합 없음
+ * - 반영 시 getAndSet(0)으로 꺼내기와 비우기를 한 번에 실행해 그 사이 누적분이 사라지지 않음
+ * - 주기적으로 종류+증가량이 같은 댓글끼리 묶어, 없는 집계 행만 만든 뒤 UPDATE ... WHERE comment_id IN (...) 으로 일괄 반영
+ * - 조회 시 DB 집계 값에 아직 반영되지 않은 누적분을 더해 응답
+ * - 반영 시점에 이미 삭제된 댓글의 누적분은 버림 (정리된 집계 행을 다시 만들지 않도록)
+ * - 보정 작업은 리액션 저장+누적과 겹치지 않게 구간 단위로 잠그고, 다시 센 구간의 누적분은 버림 (이중 반영 방지)
+ */
+@Service
+public class CommentReactionCounter {
+
+    /**
+     * UPDATE 한 번에 포함할 최대 댓글 수
+     */
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * 버퍼에서 제거된 누적기 표시 (이 값을 본 누적은 새 누적기에 다시 시도)
+     */
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private final CommentReactionCountRepository countRepository;
+    private final CommentRepository commentRepository;
+
+    private final Map<ReactionKey, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 리액션 저장+누적(읽기 잠금)과 구간 보정(쓰기 잠금) 분리
+     */
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    private record ReactionKey(long commentId, CommentReactionType type) {}
+
+    private record FlushGroup(CommentReactionType type, long delta) {}
+
+    public CommentReactionCounter(
+        CommentReactionCountRepository countRepository,
+        CommentRepository commentRepository
+    ) {
+        this.countRepository = countRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    public void increment(Long commentId, CommentReactionType type) {
+        add(new ReactionKey(commentId, type), 1);
+    }
+
+    /**
+     * 리액션 행 저장과 누적을 보정 작업 사이에 끼지 않게 함께 실행
+     * @return 저장했으면 true (이때만 누적)
+     */
+    public boolean record(Long commentId, CommentReactionType type, BooleanSupplier saveReaction) {
+        reconcileLock.readLock().lock();
+        try {
+            if (!saveReaction.getAsBoolean()) {
+                return false;
+            }
+            increment(commentId, type);
+            return true;
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 댓글 id 구간 (fromId, toId] 보정
+     * 보정은 저장된 리액션 행을 다시 세므로, 이미 저장된 리액션의 대기 누적분을 꺼내 버린 뒤 실행
+     * (보정이 실패하면 꺼낸 누적분을 되돌림)
+     */
+    public synchronized int reconcileRange(long fromId, long toId, IntSupplier recount) {
+        reconcileLock.writeLock().lock();
+        try {
+            Map<ReactionKey, Long> drained = new HashMap<>();
+            for (Map.Entry<ReactionKey, AtomicLong> entry : pending.entrySet()) {
+                long commentId = entry.getKey().commentId();
+                if (commentId > fromId && commentId <= toId) {
+                    long delta = entry.getValue().getAndSet(0);
+                    if (delta != 0) {
+                        drained.put(entry.getKey(), delta);
+                    }
+                }
+            }
+            try {
+                return recount.getAsInt();
+            } catch (RuntimeException e) {
+                drained.forEach(this::add);
+                throw e;
+            }
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 종류별 리액션 수 (DB 반영분 + 대기 중인 누적분, 리액션이 없는 종류는 0)
+     */
+    public Map<CommentReactionType, Long> getCounts(Long commentId) {
+        Map<CommentReactionType, Long> counts = new EnumMap<>(CommentReactionType.class);
+        for (CommentReactionType type : CommentReactionType.values()) {
+            AtomicLong buffered = pending.get(new ReactionKey(commentId, type));
+            counts.put(type, buffered != null ? Math.max(buffered.get(), 0L) : 0L);
+        }
+        for (CommentReactionCount persisted : countRepository.findByCommentId(commentId)) {
+            counts.merge(persisted.getType(), persisted.getReactionCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${comment.reaction.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // (종류, 증가량)별로 댓글 ID 묶기
+        Map<FlushGroup, List<Long>> idsByGroup = new HashMap<>();
+        for (Map.Entry<ReactionKey, AtomicLong> entry : pending.entrySet()) {
+            long delta = entry.getValue().getAndSet(0);
+            if (delta == 0) {
+                // 한 주기 동안 리액션이 없던 항목은 버퍼에서 제거 (0일 때만 제거 표시, 그 사이 누적이 있으면 유지)
+                pending.computeIfPresent(entry.getKey(), (key, counter) -> counter.compareAndSet(0, REMOVED) ? null : counter);
+                continue;
+            }
+            ReactionKey key = entry.getKey();
+            idsByGroup.computeIfAbsent(new FlushGroup(key.type(), delta), g -> new ArrayList<>()).add(key.commentId());
+        }
+
+        for (Map.Entry<FlushGroup, List<Long>> group : idsByGroup.entrySet()) {
+            CommentReactionType type = group.getKey().type();
+            long delta = group.getKey().delta();
+            List<Long> ids = group.getValue();
+            for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size()));
+                try {
+                    upsert(type, batch, delta);
+                } catch (Exception e) {
+                    // 반영 실패분은 다음 주기에 다시 시도 (집계 행 생성과 증가는 각각 독립적이라 중복 반영 없음)
+                    System.out.println("댓글 리액션 수 반영 실패 - 다음 주기에 재시도: " + e.getMessage());
+                    batch.forEach(id -> add(new ReactionKey(id, type), delta));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 제거 표시된 누적기에는 더하지 않고 새 누적기를 받아 다시 시도
+     */
+    private void add(ReactionKey key, long delta) {
+        while (true) {
+            AtomicLong counter = pending.computeIfAbsent(key, k -> new AtomicLong());
+            long updated = counter.accumulateAndGet(delta, (current, d) -> current == REMOVED ? REMOVED : current + d);
+            if (updated != REMOVED) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 남아 있는 댓글만 골라, 없는 집계 행을 0으로 만든 뒤 한 번의 UPDATE로 증가
+     */
+    private void upsert(CommentReactionType type, List<Long> batch, long delta) {
+        List<Long> commentIds = commentRepository.findExistingIds(batch);
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>(countRepository.findExistingCommentIds(type, commentIds));
+        if (existing.size() < commentIds.size()) {
+            List<CommentReactionCount> created = new ArrayList<>();
+            for (Long commentId : commentIds) {
+                if (!existing.contains(commentId)) {
+                    created.add(new CommentReactionCount(commentId, type));
+                }
+            }
+            countRepository.saveAll(created);
+        }
+        countRepository.incrementCounts(type, commentIds, delta);
+    }
+}
@@ -0,0 +1,87 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.entity.Comment;
+import com.cloudproject.community_backend.entity.CommentReaction;
+import com.cloudproject.community_backend.entity.CommentReactionType;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.repository.CommentReactionRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 댓글 리액션 (도움됐어요/친절해요/명확해요)
+ * - 사용자별 리액션은 comment_reactions에 바로 저장 (중복은 유니크 제약으로 차단)
+ * - 종류별 수는 CommentReactionCounter에 누적했다가 주기적으로 일괄 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentReactionService {
+
+    private final CommentReactionRepository commentReactionRepository;
+    private final CommentRepository commentRepository;
+    private final CommentReactionCounter commentReactionCounter;
+    private final EntityManager entityManager;
+
+    /**
+     * 리액션 추가
+     * @return 새로 추가했으면 true, 이미 같은 리액션을 남겼으면 false
+     */
+    public boolean addReaction(Long commentId, User user, String typeName) {
+        CommentReactionType type = parseType(typeName);
+        requireComment(commentId);
+        if (commentReactionRepository.existsByCommentIdAndUserIdAndType(commentId, user.getId(), type)) {
+            return false;
+        }
+
+        CommentReaction reaction = new CommentReaction();
+        reaction.setComment(entityManager.getReference(Comment.class, commentId));
+        reaction.setUser(entityManager.getReference(User.class, user.getId()));
+        reaction.setType(type);
+        return commentReactionCounter.record(commentId, type, () -> {
+            try {
+                commentReactionRepository.save(reaction);
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                // 같은 사용자의 동시 중복 요청
+                return false;
+            }
+        });
+    }
+
+    /**
+     * 종류별 리액션 수 (키는 소문자 종류 이름, 예: "helpful")
+     */
+    public Map<String, Long> getReactions(Long commentId) {
+        requireComment(commentId);
+        Map<String, Long> reactions = new LinkedHashMap<>();
+        commentReactionCounter.getCounts(commentId)
+            .forEach((type, count) -> reactions.put(type.name().toLowerCase(Locale.ROOT), count));
+        return reactions;
+    }
+
+    private void requireComment(Long commentId) {
+        if (!commentRepository.existsActiveById(commentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+        }
+    }
+
+    private static CommentReactionType parseType(String typeName) {
+        if (typeName != null) {
+            for (CommentReactionType type : CommentReactionType.values()) {
+                if (type.name().equalsIgnoreCase(typeName.trim())) {
+                    return type;
+                }
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 리액션입니다: " + typeName);
+    }
+}
@@ -1,5 +1,8 @@
 package com.cloudproject.community_backend.service;
 
+import com.cloudproject.community_backend.dto.CommentViewResponse;
+import com.cloudproject.community_backend.dto.CursorPageResponse;
+import com.cloudproject.community_backend.dto.KeysetCursor;
 import com.cloudproject.community_backend.entity.Comment;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.PostBoardType;
@@ -7,20 +10,62 @@ import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.CommentRepository;
 import com.cloudproject.community_backend.repository.PostRepository;
 import com.cloudproject.community_backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ContentFilterService contentFilterService;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostTrendingService postTrendingService;
+
+    /**
+     * 댓글 저장 + 게시물 댓글 수 증가만 묶는 짧은 트랜잭션 (외부 필터 호출은 트랜잭션 밖에서)
+     */
+    private final TransactionTemplate writeTransaction;
+
+    /**
+     * 댓글 목록 한 페이지 최대 크기
+     */
+    private final int maxPageSize;
+
+    public CommentService(
+        CommentRepository commentRepository,
+        ContentFilterService contentFilterService,
+        PostRepository postRepository,
+        UserRepository userRepository,
+        PostTrendingService postTrendingService,
+        PlatformTransactionManager transactionManager,
+        @Value("${comment.page.max-size:100}") int maxPageSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.contentFilterService = contentFilterService;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.postTrendingService = postTrendingService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.maxPageSize = maxPageSize;
+    }
 
+    /**
+     * 댓글 작성
+     * 선배 전용 확인과 콘텐츠 필터(외부 호출)는 트랜잭션 전에 실행해 DB 커넥션/행 잠금을 잡지 않음
+     */
     public Comment createComment(Comment comment) {
         Post post = comment.getPost();
         User author = comment.getAuthor();
@@ -40,24 +85,149 @@ public class CommentService {
             );
 
         comment.setBad(filterResult.isBlocked());
+        if (post != null) {
+            comment.setSchoolId(post.getSchoolId());
+        }
+
+        Comment saved = writeTransaction.execute(status -> {
+            Comment created = commentRepository.save(comment);
+            if (post != null) {
+                postRepository.adjustCommentCount(post.getId(), 1);
+            }
+            return created;
+        });
+        // 커밋 후 인기글 점수 반영
+        if (post != null) {
+            postTrendingService.recordComment(post);
+        }
+        return saved;
+    }
+
+    /**
+     * 부적절 판정 댓글 최신순 목록 (createdAt, id keyset 페이징, idx_comment_bad_created 범위 검색)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentViewResponse> getBadComments(String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<CommentViewResponse> rows = after == null
+            ? commentRepository.findBadViews(page)
+            : commentRepository.findBadViewsAfter(after.createdAt(), after.id(), page);
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * 게시물 댓글 목록 (createdAt, id 작성순 keyset 페이징, idx_comment_post_created 범위 검색)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentViewResponse> getCommentsByPostId(Long postId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<CommentViewResponse> rows = after == null
+            ? commentRepository.findPostViews(postId, page)
+            : commentRepository.findPostViewsAfter(postId, after.createdAt(), after.id(), page);
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * 전체 댓글 최신순 목록 (id 역순 keyset 페이징, 전체 내보내기는 CommentExportService)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentViewResponse> getLatestComments(String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
 
-        return commentRepository.save(comment);
+        List<CommentViewResponse> rows = after == null
+            ? commentRepository.findLatestViews(page)
+            : commentRepository.findLatestViewsBefore(after.id(), page);
+        return toCursorPage(rows, pageSize);
     }
 
-    public List<Comment> getBadComments() {
-        return commentRepository.findAll()
-                .stream()
-                .filter(Comment::isBad)
-                .toList();
+    /**
+     * 댓글 스레드 조회 (일반 댓글은 id keyset 페이징, 대댓글은 스레드마다 replySize개까지)
+     * - 페이지의 일반 댓글 1회 + 그 댓글들의 대댓글 1회 조회 후 부모 ID 맵으로 O(n) 트리 구성
+     * - 대댓글이 더 남은 스레드에는 replyCursor를 채워 getReplies로 이어서 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentViewResponse> getThreads(Long postId, String cursor, int size, int replySize) {
+        if (postRepository.findVersionById(postId).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        }
+        int pageSize = clampPageSize(size);
+        int repliesPerThread = Math.max(0, Math.min(replySize, maxPageSize));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<CommentViewResponse> rows = after == null
+            ? commentRepository.findRootViews(postId, page)
+            : commentRepository.findRootViewsAfter(postId, after.id(), page);
+        CursorPageResponse<CommentViewResponse> threads = toCursorPage(rows, pageSize);
+        if (threads.getItems().isEmpty()) {
+            return threads;
+        }
+
+        Map<Long, CommentViewResponse> roots = new LinkedHashMap<>();
+        for (CommentViewResponse root : threads.getItems()) {
+            roots.put(root.getId(), root);
+        }
+        // 부모마다 한 개 더 읽어 다음 대댓글이 있는지 판단
+        List<CommentViewResponse> replies = commentRepository.findReplyViews(
+            postId, new ArrayList<>(roots.keySet()), repliesPerThread + 1
+        );
+        for (CommentViewResponse reply : replies) {
+            CommentViewResponse root = roots.get(reply.getParentId());
+            if (root.getReplies().size() < repliesPerThread) {
+                root.getReplies().add(reply);
+            } else if (root.getReplyCursor() == null) {
+                // 부모별 작성순이므로 처음 넘친 시점의 마지막 대댓글이 이어서 조회할 기준점
+                root.setReplyCursor(replyCursorOf(root));
+            }
+        }
+        return threads;
+    }
+
+    /**
+     * 한 스레드의 대댓글 이어서 조회 ("답글 더 보기")
+     * @param cursor 스레드의 replyCursor 또는 이전 페이지의 nextCursor (처음부터면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentViewResponse> getReplies(Long commentId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<CommentViewResponse> rows = commentRepository.findReplyViewsAfter(
+            commentId, after != null ? after.id() : 0L, PageRequest.of(0, pageSize + 1)
+        );
+        return toCursorPage(rows, pageSize);
     }
-    
-    
 
-    public Iterable<Comment> getAllComments() {
-        return commentRepository.findAll();
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
     }
 
-    public List<Comment> getCommentsByPostId(Long postId) {
-        return commentRepository.findByPostId(postId);
+    private CursorPageResponse<CommentViewResponse> toCursorPage(List<CommentViewResponse> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            CommentViewResponse last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(rows, nextCursor);
+    }
+
+    /**
+     * 스레드에 담긴 마지막 대댓글 기준 커서 (replySize가 0이면 처음부터)
+     */
+    private static String replyCursorOf(CommentViewResponse root) {
+        List<CommentViewResponse> shown = root.getReplies();
+        if (shown.isEmpty()) {
+            return new KeysetCursor(root.getCreatedAt(), 0L).encode();
+        }
+        CommentViewResponse last = shown.get(shown.size() - 1);
+        return new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
     }
 }
@@ -0,0 +1,78 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.repository.CommentReactionCountRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.function.BiFunction;
+
+/**
+ * 비정규화 카운터 보정 작업
+ * - 게시물 좋아요/싫어요/댓글 수, 댓글 좋아요/싫어요 수, 댓글 리액션 수를 실제 행 수로 다시 계산
+ * - id 구간 단위로 나눠 짧은 트랜잭션으로 처리 (테이블 전체 잠금 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class CounterReconciliationService {
+
+    /**
+     * 한 번에 보정할 id 구간 크기
+     */
+    private static final long BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final CommentReactionCountRepository commentReactionCountRepository;
+    private final CommentReactionCounter commentReactionCounter;
+
+    /**
+     * 매일 새벽 4시 30분 보정
+     */
+    @Scheduled(cron = "${counter.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+
+        int posts = reconcileInBatches(postRepository.findMaxId(), postRepository::reconcileCounts);
+        int comments = reconcileInBatches(commentRepository.findMaxId(), commentRepository::reconcileCounts);
+        int reactions = reconcileReactionCounts();
+
+        System.out.println(String.format(
+            "카운터 보정 완료 - 게시물: %d건, 댓글: %d건, 댓글 리액션: %d건 (%dms)",
+            posts, comments, reactions, System.currentTimeMillis() - startedAt
+        ));
+    }
+
+    /**
+     * 댓글 리액션 집계 보정 (댓글 id 구간별로, 구간의 버퍼 누적분은 다시 센 값에 포함되므로 버림)
+     * 빠진 집계 행 생성 → 실제 리액션 수로 보정 → 삭제된 댓글의 집계 행 제거
+     */
+    private int reconcileReactionCounts() {
+        Long maxCommentId = commentRepository.findMaxId();
+        Long maxCountedId = commentReactionCountRepository.findMaxCommentId();
+        Long maxId = maxCommentId == null ? maxCountedId
+            : maxCountedId == null ? maxCommentId
+            : Long.valueOf(Math.max(maxCommentId, maxCountedId));
+
+        return reconcileInBatches(maxId, (fromId, toId) ->
+            commentReactionCounter.reconcileRange(fromId, toId, () ->
+                commentReactionCountRepository.createMissingCounts(fromId, toId)
+                    + commentReactionCountRepository.reconcileCounts(fromId, toId)
+                    + commentReactionCountRepository.deleteOrphans(fromId, toId)
+            )
+        );
+    }
+
+    private int reconcileInBatches(Long maxId, BiFunction<Long, Long, Integer> reconcileRange) {
+        if (maxId == null) {
+            return 0;
+        }
+        int updated = 0;
+        for (long fromId = 0; fromId < maxId; fromId += BATCH_SIZE) {
+            updated += reconcileRange.apply(fromId, Math.min(fromId + BATCH_SIZE, maxId));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,189 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.CursorPageResponse;
+import com.cloudproject.community_backend.dto.KeysetCursor;
+import com.cloudproject.community_backend.dto.MeetingParticipantResponse;
+import com.cloudproject.community_backend.dto.MeetingParticipationResponse;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.entity.MeetingParticipant;
+import com.cloudproject.community_backend.entity.MeetingParticipantStatus;
+import com.cloudproject.community_backend.entity.MeetingPostDetail;
+import com.cloudproject.community_backend.entity.Post;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.repository.MeetingParticipantRepository;
+import com.cloudproject.community_backend.repository.MeetingPostDetailRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모임 참여/취소
+ * - 정원은 조건부 UPDATE(current < capacity일 때만 +1)로만 차감하므로 동시 신청에도 초과 없음
+ * - 정원이 찼으면 대기열에 등록, 참여자가 취소하면 대기열 맨 앞을 자동 승격
+ * - 참여/취소 모두 모임 행 UPDATE를 먼저 실행해 같은 모임의 작업끼리 같은 순서로 잠금 (교착 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingService {
+
+    private final PostRepository postRepository;
+    private final MeetingPostDetailRepository meetingPostDetailRepository;
+    private final MeetingParticipantRepository meetingParticipantRepository;
+    private final UpcomingMeetingIndex upcomingMeetingIndex;
+
+    /**
+     * 일정 구간 조회 최대 길이 (일)
+     */
+    private static final long MAX_RANGE_DAYS = 366;
+
+    /**
+     * 모임 참여 신청 (자리가 있으면 참여, 없으면 대기열 등록, 이미 신청했으면 현재 상태 반환)
+     */
+    @Transactional
+    public MeetingParticipationResponse join(Long postId, User user) {
+        MeetingPostDetail meeting = findMeeting(postId);
+
+        MeetingParticipant existing = meetingParticipantRepository.findByPostIdAndUserId(postId, user.getId())
+            .orElse(null);
+        if (existing != null) {
+            return toResponse(postId, meeting, existing.getStatus());
+        }
+
+        boolean seated = meetingPostDetailRepository.reserveSeat(postId) == 1;
+
+        MeetingParticipant participant = new MeetingParticipant();
+        participant.setPost(postRepository.getReferenceById(postId));
+        participant.setUser(user);
+        participant.setStatus(seated ? MeetingParticipantStatus.JOINED : MeetingParticipantStatus.WAITLISTED);
+        try {
+            meetingParticipantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 신청 (확보한 자리는 롤백으로 반환)
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 참여 신청한 모임입니다.");
+        }
+
+        if (seated) {
+            postRepository.bumpVersion(postId);
+            upcomingMeetingIndex.refresh(postId);
+        }
+        return toResponse(postId, meeting, participant.getStatus());
+    }
+
+    /**
+     * 참여/대기 취소 (참여자가 취소하면 대기열 맨 앞 사용자를 참여로 승격)
+     */
+    @Transactional
+    public MeetingParticipationResponse leave(Long postId, User user) {
+        MeetingPostDetail meeting = findMeeting(postId);
+
+        MeetingParticipant participant = meetingParticipantRepository.findByPostIdAndUserId(postId, user.getId())
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "참여 신청 내역이 없습니다."));
+
+        if (participant.getStatus() == MeetingParticipantStatus.JOINED) {
+            meetingPostDetailRepository.releaseSeat(postId);
+            meetingParticipantRepository.delete(participant);
+            meetingParticipantRepository.flush();
+            promoteFromWaitlist(postId);
+            postRepository.bumpVersion(postId);
+            upcomingMeetingIndex.refresh(postId);
+        } else {
+            meetingParticipantRepository.delete(participant);
+        }
+        return toResponse(postId, meeting, null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MeetingParticipantResponse> getParticipants(Long postId) {
+        findMeeting(postId);
+        return meetingParticipantRepository.findResponsesByPostId(postId);
+    }
+
+    /**
+     * 다가오는 모임 (메모리 인덱스에서 일정 순으로 조회, DB 조회 없음)
+     */
+    public CursorPageResponse<PostSummaryResponse> getUpcomingMeetings(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, PostService.MAX_PAGE_SIZE));
+        List<PostSummaryResponse> rows = upcomingMeetingIndex.getUpcoming(KeysetCursor.decode(cursor), pageSize + 1);
+        return toSchedulePage(rows, pageSize);
+    }
+
+    /**
+     * 일정 구간 [from, to) 모임 (일정 순 keyset 페이징, idx_meeting_schedule 범위 검색)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummaryResponse> getMeetingsBetween(
+        LocalDateTime from,
+        LocalDateTime to,
+        String cursor,
+        int size
+    ) {
+        if (!from.isBefore(to) || Duration.between(from, to).toDays() > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, PostService.MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryResponse> rows = after == null
+            ? postRepository.findMeetingsBetween(from, to, page)
+            : postRepository.findMeetingsAfter(after.createdAt(), after.id(), to, page);
+        return toSchedulePage(rows, pageSize);
+    }
+
+    /**
+     * pageSize + 1건 조회 결과를 페이지로 변환 (커서는 마지막 모임의 일정과 ID)
+     */
+    private CursorPageResponse<PostSummaryResponse> toSchedulePage(List<PostSummaryResponse> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            PostSummaryResponse last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getMeeting().schedule(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(rows, nextCursor);
+    }
+
+    /**
+     * 빈 자리를 다시 확보한 뒤 대기열 맨 앞 사용자에게 배정 (대기자가 없으면 자리 반환)
+     */
+    private void promoteFromWaitlist(Long postId) {
+        if (meetingPostDetailRepository.reserveSeat(postId) == 0) {
+            return;
+        }
+        List<MeetingParticipant> head = meetingParticipantRepository.findWaitlistHead(postId, PageRequest.of(0, 1));
+        if (head.isEmpty()) {
+            meetingPostDetailRepository.releaseSeat(postId);
+            return;
+        }
+        head.get(0).setStatus(MeetingParticipantStatus.JOINED);
+    }
+
+    private MeetingPostDetail findMeeting(Long postId) {
+        Post post = postRepository.findActiveById(postId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        if (post.getBoardType() != PostBoardType.MEETING || post.getMeetingDetails() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "모임 게시글이 아닙니다.");
+        }
+        return post.getMeetingDetails();
+    }
+
+    private MeetingParticipationResponse toResponse(
+        Long postId,
+        MeetingPostDetail meeting,
+        MeetingParticipantStatus status
+    ) {
+        // 조건부 UPDATE는 영속성 컨텍스트를 거치지 않으므로 참여 인원은 DB에서 다시 조회
+        int current = meetingPostDetailRepository.findCurrentParticipants(postId).orElse(0);
+        return new MeetingParticipationResponse(status, current, meeting.getCapacity());
+    }
+}
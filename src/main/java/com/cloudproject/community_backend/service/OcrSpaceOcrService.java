@@ -1,146 +1,228 @@
 package com.cloudproject.community_backend.service;
 
+import com.cloudproject.community_backend.dto.StudentCardOcrResult;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 public class OcrSpaceOcrService {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final String apiKey;
     private static final String OCR_API_URL = "https://api.ocr.space/parse/image";
 
-    public OcrSpaceOcrService(@Value("${ocr.space.api.key}") String apiKey) {
-        this.apiKey = apiKey;
-    }
-
-    public String extractSchoolName(MultipartFile studentCard) {
-        try {
-            String originalExt;
-            String originalName = studentCard.getOriginalFilename();
-            if (originalName != null && originalName.contains(".")) {
-                originalExt = originalName.substring(originalName.lastIndexOf("."));
-            } else {
-                originalExt = ".png";
+    private static final String RECOGNITION_FAILED = "인식 실패";
+    private static final String RECOGNITION_ERROR = "에러 발생";
+    private static final Pattern YEAR_PATTERN = Pattern.compile("(202[0-9]|203[0-9])");
+
+    /**
+     * OCR 결과 캐시 최대 개수 (이미지 SHA-256 기준, LRU)
+     */
+    private static final int CACHE_MAX_ENTRIES = 256;
+
+    /**
+     * 이미지 내용 해시 -> OCR 결과
+     * 같은 학생증으로 재시도할 때 OCR API를 다시 호출하지 않도록 보관
+     */
+    private final Map<String, StudentCardOcrResult> resultCache = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StudentCardOcrResult> eldest) {
+                return size() > CACHE_MAX_ENTRIES;
             }
+        }
+    );
 
-            File tempFile = File.createTempFile("studentCard", originalExt);
-            studentCard.transferTo(tempFile);
+    /**
+     * 업로드 전송 시 청크 크기 (요청 본문을 메모리에 모으지 않고 이 크기 단위로 스트리밍)
+     */
+    private static final int UPLOAD_CHUNK_SIZE = 8192;
 
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("apikey", apiKey);
-            body.add("language", "eng");
-            body.add("OCREngine", "2");
-            body.add("scale", "true");
-            body.add("file", new FileSystemResource(tempFile));
+    private final StudentCardImagePreprocessor imagePreprocessor;
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+    public OcrSpaceOcrService(
+        @Value("${ocr.space.api.key}") String apiKey,
+        StudentCardImagePreprocessor imagePreprocessor
+    ) {
+        this.apiKey = apiKey;
+        this.imagePreprocessor = imagePreprocessor;
 
-            String response;
-            try {
-                ResponseEntity<String> responseEntity = restTemplate.postForEntity(OCR_API_URL, requestEntity, String.class);
-                response = responseEntity.getBody();
-                System.out.println("OCR API 응답 성공");
-            } catch (Exception e) {
-                System.out.println("OCR API 호출 에러: " + e.getMessage());
-                response = "{\"ParsedResults\":[]}";
-            }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setChunkSize(UPLOAD_CHUNK_SIZE);
+        requestFactory.setConnectTimeout(Duration.ofSeconds(5));
+        requestFactory.setReadTimeout(Duration.ofSeconds(30));
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
 
-            JsonNode root = objectMapper.readTree(response);
-            if (root.has("ParsedResults") && root.get("ParsedResults").isArray()) {
-                String parsedText = root.get("ParsedResults").get(0).get("ParsedText").asText();
-
-                String[] lines = parsedText.split("\\r?\\n");
-                String schoolName = "";
-                for (int i = 0; i < lines.length; i++) {
-                    String upper = lines[i].toUpperCase();
-
-                    if (upper.contains("MIDDLE SCHOOL") ||
-                        upper.contains("HIGH SCHOOL") ||
-                        upper.contains("ELEMENTARY SCHOOL") ||
-                        upper.contains("UNIVERSITY")) {
-
-                        schoolName = lines[i];
-                        break;
-                    }
-                }
+    /**
+     * 요청이 끝난 뒤에도 OCR에 사용할 수 있는 학생증 이미지
+     * - cachedResult가 있으면 OCR 호출 없이 바로 사용
+     * - image는 전처리된 JPEG 또는 원본 이미지
+     */
+    public record PreparedStudentCard(
+        String contentHash,
+        StudentCardOcrResult cachedResult,
+        Resource image,
+        boolean preprocessed
+    ) {}
+
+    /**
+     * 업로드 원본을 임시 파일로 옮김 (요청 스레드에서는 옮기기만 하고 해시/전처리는 작업 스레드에서 처리)
+     * 업로드 파일은 요청이 끝나면 정리되므로 요청과 분리하되, 대기 중인 작업이 힙에 이미지를 들고 있지 않도록 디스크에 보관
+     * 작업이 끝나면 discard로 삭제
+     */
+    public FileSystemResource detach(MultipartFile studentCard) throws IOException {
+        String originalName = studentCard.getOriginalFilename();
+        int dot = originalName != null ? originalName.lastIndexOf('.') : -1;
+        // 확장자로 OCR 파일 형식을 판단하므로 원본 확장자 유지
+        String suffix = dot >= 0 ? originalName.substring(dot) : "";
+        Path spooled = Files.createTempFile("student-card-", suffix);
+        try {
+            studentCard.transferTo(spooled);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        return new FileSystemResource(spooled);
+    }
 
-                return schoolName.trim();
-            }
+    /**
+     * detach로 만든 임시 파일 삭제
+     */
+    public void discard(FileSystemResource detached) {
+        try {
+            Files.deleteIfExists(detached.getFile().toPath());
+        } catch (IOException e) {
+            System.out.println("학생증 임시 파일 삭제 실패: " + e.getMessage());
+        }
+    }
 
-            return "인식 실패";
+    /**
+     * 학생증 이미지 준비 (해시 계산 + 캐시 확인 + 전처리)
+     * @param studentCard detach로 분리한 이미지 또는 업로드 파일의 Resource
+     */
+    public PreparedStudentCard prepare(Resource studentCard) throws IOException {
+        String contentHash = hashContent(studentCard);
+
+        StudentCardOcrResult cached = resultCache.get(contentHash);
+        if (cached != null) {
+            System.out.println("OCR 캐시 적중: " + contentHash);
+            return new PreparedStudentCard(contentHash, cached, null, false);
+        }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "에러 발생";
+        Optional<byte[]> processed = imagePreprocessor.preprocess(studentCard, studentCard.contentLength());
+        if (processed.isPresent()) {
+            return new PreparedStudentCard(contentHash, null, namedResource(processed.get(), "studentCard.jpg"), true);
         }
+        return new PreparedStudentCard(contentHash, null, studentCard, false);
     }
-    
 
-    public boolean verifySchoolName(String inputSchoolName, MultipartFile studentCard) {
-        String extracted = extractSchoolName(studentCard);
+    /**
+     * 준비된 학생증 이미지로 OCR (캐시 적중 시 API 호출 생략)
+     */
+    public StudentCardOcrResult recognizeStudentCard(PreparedStudentCard studentCard) {
+        if (studentCard.cachedResult() != null) {
+            return studentCard.cachedResult();
+        }
+
+        StudentCardOcrResult result = requestOcr(studentCard);
 
-        if (extracted.equals("인식 실패") || extracted.equals("에러 발생") || extracted.isEmpty()) {
-            return false;
+        // 인식에 성공한 결과만 캐싱 (일시적인 API 오류는 재시도 가능하도록)
+        if (result.isRecognized()) {
+            resultCache.put(studentCard.contentHash(), result);
         }
+        return result;
+    }
 
-        String normalizedExtracted = extracted.replaceAll("\\s+", "").toUpperCase();
-        String normalizedInput = inputSchoolName.replaceAll("\\s+", "").toUpperCase();
+    public Integer calculateGradeFromYear(Integer admissionYear) {
+        if (admissionYear == null) {
+            return null;
+        }
 
-        return normalizedExtracted.contains(normalizedInput) || normalizedInput.contains(normalizedExtracted);
+        int currentYear = java.time.Year.now().getValue();
+        int grade = currentYear - admissionYear + 1;
+
+        if (grade >= 1 && grade <= 3) {
+            return grade;
+        }
+
+        return null;
     }
 
-    public Integer extractAdmissionYear(MultipartFile studentCard) {
-        try {
-            System.out.println("extractAdmissionYear 호출됨");
-            String originalExt;
-            String originalName = studentCard.getOriginalFilename();
-            if (originalName != null && originalName.contains(".")) {
-                originalExt = originalName.substring(originalName.lastIndexOf("."));
-            } else {
-                originalExt = ".png";
+    private Resource namedResource(byte[] bytes, String filename) {
+        return new ByteArrayResource(bytes) {
+            @Override
+            public String getFilename() {
+                return filename;
             }
+        };
+    }
 
-            // Convert to base64
-            byte[] imageBytes = studentCard.getBytes();
-            String base64Image = java.util.Base64.getEncoder().encodeToString(imageBytes);
-            System.out.println("Base64 변환 완료, 길이: " + base64Image.length());
-
-            MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+    /**
+     * OCR.space API 호출 후 원문에서 학교명/입학년도 추출
+     */
+    private StudentCardOcrResult requestOcr(PreparedStudentCard studentCard) {
+        try {
+            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             body.add("apikey", apiKey);
-            body.add("base64Image", "data:image/png;base64," + base64Image);
             body.add("language", "eng");
-            body.add("OCREngine", "1");
+            body.add("OCREngine", "2");
+            body.add("scale", "true");
+
+            if (studentCard.preprocessed()) {
+                // 재인코딩으로 EXIF 회전 정보가 사라지므로 OCR.space 자동 회전 사용
+                body.add("filetype", "JPG");
+                body.add("detectOrientation", "true");
+            } else {
+                String filename = studentCard.image().getFilename();
+                if (filename == null || !filename.contains(".")) {
+                    body.add("filetype", "PNG");
+                }
+            }
+            body.add("file", studentCard.image());
 
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
-            HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(body, headers);
+            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-            System.out.println("OCR API 호출 중...");
             String response;
             try {
                 ResponseEntity<String> responseEntity = restTemplate.postForEntity(OCR_API_URL, requestEntity, String.class);
                 response = responseEntity.getBody();
-                System.out.println("OCR API 응답: " + response);
+                System.out.println("OCR API 응답 성공");
             } catch (Exception e) {
                 System.out.println("OCR API 호출 에러: " + e.getMessage());
-                e.printStackTrace();
-                response = "{\"ParsedResults\":[]}";
+                return StudentCardOcrResult.builder()
+                    .schoolName(RECOGNITION_ERROR)
+                    .build();
             }
 
             JsonNode root = objectMapper.readTree(response);
@@ -150,55 +232,79 @@ public class OcrSpaceOcrService {
                 System.out.println("OCR API 에러: " + errorMessage);
             }
 
-            if (root.has("OCRExitCode")) {
-                System.out.println("OCR Exit Code: " + root.get("OCRExitCode").asInt());
-            }
-
-            if (root.has("ParsedResults") && root.get("ParsedResults").isArray() && root.get("ParsedResults").size() > 0) {
-                JsonNode firstResult = root.get("ParsedResults").get(0);
-                if (firstResult != null && firstResult.has("ParsedText")) {
-                    String parsedText = firstResult.get("ParsedText").asText();
-                    System.out.println("추출된 텍스트: " + parsedText);
-
-                    java.util.regex.Pattern yearPattern = java.util.regex.Pattern.compile("(202[0-9]|203[0-9])");
-                    java.util.regex.Matcher matcher = yearPattern.matcher(parsedText);
-
-                    if (matcher.find()) {
-                        int year = Integer.parseInt(matcher.group(1));
-                        System.out.println("매칭된 연도: " + year);
-                        return year;
-                    } else {
-                        System.out.println("연도 패턴 매칭 실패");
-                    }
-                } else {
-                    System.out.println("ParsedText가 없거나 firstResult가 null입니다");
-                }
-            } else {
+            JsonNode parsedResults = root.get("ParsedResults");
+            if (parsedResults == null || !parsedResults.isArray() || parsedResults.isEmpty()
+                || !parsedResults.get(0).has("ParsedText")) {
                 System.out.println("OCR API가 빈 결과를 반환했습니다 - 이미지를 인식하지 못했을 가능성이 있습니다");
+                return StudentCardOcrResult.builder()
+                    .schoolName(RECOGNITION_FAILED)
+                    .build();
             }
 
-            return null;
+            String parsedText = parsedResults.get(0).get("ParsedText").asText();
+            System.out.println("추출된 텍스트: " + parsedText);
+
+            return StudentCardOcrResult.builder()
+                .parsedText(parsedText)
+                .schoolName(parseSchoolName(parsedText))
+                .admissionYear(parseAdmissionYear(parsedText))
+                .build();
 
         } catch (Exception e) {
-            System.out.println("OCR 에러 발생:");
             e.printStackTrace();
-            return null;
+            return StudentCardOcrResult.builder()
+                .schoolName(RECOGNITION_ERROR)
+                .build();
         }
     }
 
-    public Integer calculateGradeFromYear(Integer admissionYear) {
-        if (admissionYear == null) {
-            return null;
+    /**
+     * OCR 원문에서 학교명 줄 추출
+     */
+    private String parseSchoolName(String parsedText) {
+        String[] lines = parsedText.split("\\r?\\n");
+        for (String line : lines) {
+            String upper = line.toUpperCase();
+
+            if (upper.contains("MIDDLE SCHOOL") ||
+                upper.contains("HIGH SCHOOL") ||
+                upper.contains("ELEMENTARY SCHOOL") ||
+                upper.contains("UNIVERSITY")) {
+                return line.trim();
+            }
         }
+        return "";
+    }
 
-        int currentYear = java.time.Year.now().getValue();
-        int grade = currentYear - admissionYear + 1;
-
-        if (grade >= 1 && grade <= 3) {
-            return grade;
+    /**
+     * OCR 원문에서 입학년도 추출
+     */
+    private Integer parseAdmissionYear(String parsedText) {
+        Matcher matcher = YEAR_PATTERN.matcher(parsedText);
+        if (matcher.find()) {
+            int year = Integer.parseInt(matcher.group(1));
+            System.out.println("매칭된 연도: " + year);
+            return year;
         }
-
+        System.out.println("연도 패턴 매칭 실패");
         return null;
     }
 
+    /**
+     * 이미지 내용의 SHA-256 해시 (스트림으로 읽어 메모리 복사 최소화)
+     */
+    private String hashContent(Resource file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
 }
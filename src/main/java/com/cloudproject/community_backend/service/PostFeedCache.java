@@ -0,0 +1,196 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.KeysetCursor;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * 게시판별 피드 캐시 (최신 게시물 앞부분만 메모리에 보관)
+ * - 게시판(전체 포함)마다 최신순 상위 rowsPerBoard개의 목록 DTO를 보관
+ * - 첫 페이지와 캐시 범위 안의 커서 페이지는 DB 조회 없이 응답
+ * - 게시물 작성/삭제/블라인드 시 해당 게시판과 전체 피드를 무효화 (트랜잭션 커밋 후 한 번 더 무효화)
+ * - 게시판 수 × rowsPerBoard로 메모리 사용량 고정
+ * - 좋아요/댓글 수는 무효화 대신 TTL로 갱신 (최대 ttlSeconds만큼 늦게 반영)
+ */
+@Service
+public class PostFeedCache {
+
+    /**
+     * 전체 게시판 피드 키
+     */
+    private static final String ALL_BOARDS = "ALL";
+
+    private final int rowsPerBoard;
+    private final long ttlNanos;
+
+    private final Map<String, FeedEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 키별 무효화 세대 (조회 중 무효화되면 오래된 목록을 저장하지 않도록)
+     */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * @param rows 캐시된 최신순 목록 (불변)
+     * @param complete 게시판의 전체 게시물을 담고 있는지 (마지막 페이지까지 캐시에서 응답 가능)
+     * @param loadedAt 적재 시각 (System.nanoTime)
+     */
+    private record FeedEntry(List<PostSummaryResponse> rows, boolean complete, long loadedAt) {}
+
+    public PostFeedCache(
+        MeterRegistry meterRegistry,
+        @Value("${post.feed-cache.rows-per-board:100}") int rowsPerBoard,
+        @Value("${post.feed-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.rowsPerBoard = rowsPerBoard;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        this.hitCounter = Counter.builder("post.feed.cache")
+            .description("게시물 피드 캐시 조회 결과")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("post.feed.cache")
+            .description("게시물 피드 캐시 조회 결과")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("post.feed.cache.rows", entries, map -> map.values().stream()
+                .mapToInt(entry -> entry.rows().size())
+                .sum())
+            .description("피드 캐시에 보관 중인 게시물 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 피드 구간 조회
+     * - 첫 페이지가 캐시에 없으면 loader로 상위 rowsPerBoard개를 적재한 뒤 응답
+     * - 커서가 캐시 범위를 벗어나면 empty (호출 측에서 DB 조회)
+     * @param loader 최신순 상위 n개 조회 함수
+     */
+    public Optional<List<PostSummaryResponse>> get(
+        PostBoardType boardType,
+        KeysetCursor after,
+        int limit,
+        IntFunction<List<PostSummaryResponse>> loader
+    ) {
+        String key = key(boardType);
+        FeedEntry entry = entries.get(key);
+        boolean loaded = false;
+
+        if (entry != null && System.nanoTime() - entry.loadedAt() > ttlNanos) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+
+        if (entry == null) {
+            if (after != null || limit > rowsPerBoard) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            entry = load(key, loader);
+            loaded = true;
+        }
+
+        int start = after == null ? 0 : indexAfter(entry.rows(), after);
+        int end = start + limit;
+        if (end > entry.rows().size() && !entry.complete()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        if (!loaded) {
+            hitCounter.increment();
+        }
+        return Optional.of(entry.rows().subList(start, Math.min(end, entry.rows().size())));
+    }
+
+    /**
+     * 게시판 피드와 전체 피드 무효화
+     * 트랜잭션 안에서 호출되면 커밋 직후 한 번 더 무효화 (커밋 전 다시 적재된 목록 제거)
+     */
+    public void evict(PostBoardType boardType) {
+        evictNow(boardType);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(boardType);
+                }
+            });
+        }
+    }
+
+    private void evictNow(PostBoardType boardType) {
+        for (String key : new String[]{key(boardType), ALL_BOARDS}) {
+            generations.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    private FeedEntry load(String key, IntFunction<List<PostSummaryResponse>> loader) {
+        missCounter.increment();
+        long generation = generations.computeIfAbsent(key, k -> new AtomicLong()).get();
+
+        // 전체 게시물을 담았는지 확인하기 위해 1건 더 조회
+        List<PostSummaryResponse> loaded = loader.apply(rowsPerBoard + 1);
+        boolean complete = loaded.size() <= rowsPerBoard;
+        FeedEntry entry = new FeedEntry(
+            List.copyOf(complete ? loaded : loaded.subList(0, rowsPerBoard)),
+            complete,
+            System.nanoTime()
+        );
+
+        // 조회 중 무효화가 없었을 때만 저장
+        if (generations.get(key).get() == generation) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * 커서 행 바로 다음 위치 (createdAt desc, id desc 정렬 기준 이진 탐색)
+     */
+    private int indexAfter(List<PostSummaryResponse> rows, KeysetCursor after) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfter(rows.get(mid), after)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 최신순 정렬에서 row가 커서보다 뒤(더 오래된 쪽)인지
+     */
+    private boolean isAfter(PostSummaryResponse row, KeysetCursor after) {
+        int compare = row.getCreatedAt().compareTo(after.createdAt());
+        return compare < 0 || (compare == 0 && row.getId() < after.id());
+    }
+
+    private String key(PostBoardType boardType) {
+        return boardType != null ? boardType.name() : ALL_BOARDS;
+    }
+}
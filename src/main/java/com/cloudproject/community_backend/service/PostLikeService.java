@@ -1,11 +1,14 @@
 package com.cloudproject.community_backend.service;
 
+import com.cloudproject.community_backend.dto.LikeCountResponse;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.PostLike;
 import com.cloudproject.community_backend.entity.User;
 import com.cloudproject.community_backend.repository.PostLikeRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,19 +17,34 @@ import java.util.Optional;
 public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final PostTrendingService postTrendingService;
 
+    /**
+     * 좋아요/싫어요 토글 + 게시물 카운터 원자적 갱신
+     */
+    @Transactional
     public void toggleLike(Post post, User user, boolean isLike) {
         Optional<PostLike> existing = postLikeRepository.findByPostAndUser(post, user);
+        long likeDelta = 0;
+        long dislikeDelta = 0;
 
         if (existing.isPresent()) {
             PostLike like = existing.get();
             if (like.isLiked() == isLike) {   // getter 변경
                 // 같은 버튼 다시 누르면 취소
                 postLikeRepository.delete(like);
+                if (isLike) {
+                    likeDelta = -1;
+                } else {
+                    dislikeDelta = -1;
+                }
             } else {
                 // 반대 버튼 눌렀을 경우 변경
                 like.setLiked(isLike);       // setter 변경
                 postLikeRepository.save(like);
+                likeDelta = isLike ? 1 : -1;
+                dislikeDelta = -likeDelta;
             }
         } else {
             // 처음 누름
@@ -35,15 +53,23 @@ public class PostLikeService {
             newLike.setUser(user);
             newLike.setLiked(isLike);        // setter 변경
             postLikeRepository.save(newLike);
+            if (isLike) {
+                likeDelta = 1;
+            } else {
+                dislikeDelta = 1;
+            }
         }
-    }
 
-    public long getLikeCount(Post post) {
-        return postLikeRepository.countByPostAndLiked(post, true);
+        postRepository.adjustLikeCounts(post.getId(), likeDelta, dislikeDelta);
+        postTrendingService.recordLike(post, likeDelta);
     }
-    
-    public long getDislikeCount(Post post) {
-        return postLikeRepository.countByPostAndLiked(post, false);
+
+    /**
+     * 좋아요/싫어요 수 (카운터 컬럼 조회, 좋아요 행을 세지 않음)
+     */
+    @Transactional(readOnly = true)
+    public LikeCountResponse getLikeCounts(Post post) {
+        return postRepository.findLikeCounts(post.getId())
+            .orElseGet(() -> new LikeCountResponse(0, 0));
     }
-    
 }
@@ -0,0 +1,135 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.repository.CommentLikeRepository;
+import com.cloudproject.community_backend.repository.CommentReactionCountRepository;
+import com.cloudproject.community_backend.repository.CommentReactionRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.MeetingParticipantRepository;
+import com.cloudproject.community_backend.repository.PostLikeRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 삭제 표시된 게시물 정리 작업
+ * - 게시물 삭제 요청은 deletedAt만 기록하고 즉시 응답 (댓글 수와 무관한 지연 시간)
+ * - 이 작업이 댓글 좋아요 → 댓글 리액션/집계 → 게시물 좋아요 → 모임 참여자 → 댓글 → 모임/질문 정보 → 게시물 순으로 실제 행 제거
+ * - 한 번에 batchSize개 행만 DELETE ... WHERE id IN (...) 으로 지워 트랜잭션과 잠금을 짧게 유지
+ */
+@Service
+public class PostPurgeService {
+
+    /**
+     * 한 번 실행에서 정리할 최대 게시물 수
+     */
+    private static final int POSTS_PER_RUN = 20;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final CommentReactionCountRepository commentReactionCountRepository;
+    private final MeetingParticipantRepository meetingParticipantRepository;
+    private final int batchSize;
+
+    public PostPurgeService(
+        PostRepository postRepository,
+        CommentRepository commentRepository,
+        PostLikeRepository postLikeRepository,
+        CommentLikeRepository commentLikeRepository,
+        CommentReactionRepository commentReactionRepository,
+        CommentReactionCountRepository commentReactionCountRepository,
+        MeetingParticipantRepository meetingParticipantRepository,
+        @Value("${post.purge.batch-size:500}") int batchSize
+    ) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.commentReactionRepository = commentReactionRepository;
+        this.commentReactionCountRepository = commentReactionCountRepository;
+        this.meetingParticipantRepository = meetingParticipantRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${post.purge.interval-ms:60000}")
+    public void purgeDeletedPosts() {
+        List<Long> postIds = postRepository.findDeletedIds(PageRequest.of(0, POSTS_PER_RUN));
+        for (Long postId : postIds) {
+            try {
+                purge(postId);
+            } catch (Exception e) {
+                // 실패한 게시물은 삭제 표시가 남아 있으므로 다음 실행에서 다시 시도
+                System.out.println("삭제 게시물 정리 실패 - postId: " + postId + ", " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 게시물 하나의 연관 행과 게시물 행 제거
+     */
+    public void purge(Long postId) {
+        long startedAt = System.currentTimeMillis();
+
+        int commentLikes = deleteInBatches(
+            page -> commentLikeRepository.findIdsByPostId(postId, page),
+            commentLikeRepository::deleteAllByIdInBatch
+        );
+        deleteInBatches(
+            page -> commentReactionRepository.findIdsByPostId(postId, page),
+            commentReactionRepository::deleteAllByIdInBatch
+        );
+        deleteInBatches(
+            page -> commentReactionCountRepository.findIdsByPostId(postId, page),
+            commentReactionCountRepository::deleteAllByIdInBatch
+        );
+        int postLikes = deleteInBatches(
+            page -> postLikeRepository.findIdsByPostId(postId, page),
+            postLikeRepository::deleteAllByIdInBatch
+        );
+        deleteInBatches(
+            page -> meetingParticipantRepository.findIdsByPostId(postId, page),
+            meetingParticipantRepository::deleteAllByIdInBatch
+        );
+        // 대댓글과 부모 댓글이 서로 다른 배치에 있어도 FK 위반이 없도록 부모 참조부터 해제
+        deleteInBatches(
+            page -> commentRepository.findReplyIdsByPostId(postId, page),
+            commentRepository::detachFromParents
+        );
+        int comments = deleteInBatches(
+            page -> commentRepository.findIdsByPostId(postId, page),
+            commentRepository::deleteAllByIdInBatch
+        );
+        postRepository.deleteMeetingDetail(postId);
+        postRepository.deleteQuestionDetail(postId);
+        postRepository.purgeDeleted(postId);
+
+        System.out.println(String.format(
+            "삭제 게시물 정리 완료 - postId: %d, 댓글: %d건, 댓글 좋아요: %d건, 게시물 좋아요: %d건 (%dms)",
+            postId, comments, commentLikes, postLikes, System.currentTimeMillis() - startedAt
+        ));
+    }
+
+    /**
+     * 대상이 없을 때까지 batchSize개씩 조회해 처리 (처리된 행은 다음 조회에서 빠짐)
+     */
+    private int deleteInBatches(Function<Pageable, List<Long>> findIds, Consumer<List<Long>> deleteIds) {
+        Pageable page = PageRequest.of(0, batchSize);
+        int deleted = 0;
+        List<Long> ids = findIds.apply(page);
+        while (!ids.isEmpty()) {
+            deleteIds.accept(ids);
+            deleted += ids.size();
+            ids = findIds.apply(page);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,401 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.PostSearchSource;
+import com.cloudproject.community_backend.dto.PostSearchState;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시물 전문 검색 인덱스 (메모리 역색인 + BM25)
+ * - 한글은 음절 bigram, 영문/숫자는 단어 단위로 색인 (제목은 가중치 2배)
+ * - 게시물 작성/삭제/블라인드 시 해당 문서만 갱신
+ * - 시작 시 디스크 스냅샷을 읽어 이후 삭제/블라인드 변경을 DB 기준으로 맞추고, 스냅샷 이후 게시물만 배치로 추가 색인
+ */
+@Service
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * 제목 토큰 가중치 (제목 토큰은 본문보다 이 배수만큼 tf에 반영)
+     */
+    private static final int TITLE_WEIGHT = 2;
+
+    /**
+     * 시작 시 색인할 때 한 번에 읽는 게시물 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final PostRepository postRepository;
+    private final Path snapshotPath;
+
+    /**
+     * 토큰 -> (게시물 ID -> tf)
+     */
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 게시물 ID -> 색인된 문서 정보
+     */
+    private final Map<Long, IndexedPost> posts = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalLength = new AtomicLong();
+    private final AtomicLong maxIndexedId = new AtomicLong();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * 색인된 문서 (블라인드 변경 시 새 객체로 교체)
+     */
+    private record IndexedPost(PostBoardType boardType, boolean bad, int length, Map<String, Integer> termFrequencies) {}
+
+    public PostSearchIndex(
+        PostRepository postRepository,
+        @Value("${post.search.snapshot-path:data/post-search-index.bin}") String snapshotPath
+    ) {
+        this.postRepository = postRepository;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        boolean restored = loadSnapshot();
+        int stale = restored ? reconcileSnapshot(maxIndexedId.get()) : 0;
+
+        // 스냅샷 이후 작성된 게시물만 id 순으로 배치 색인
+        long afterId = maxIndexedId.get();
+        int indexed = 0;
+        List<PostSearchSource> batch;
+        do {
+            batch = postRepository.findSearchSourcesAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (PostSearchSource source : batch) {
+                index(source);
+                afterId = source.id();
+            }
+            indexed += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        System.out.println(String.format(
+            "게시물 검색 인덱스 적재 완료 - 스냅샷: %s, 스냅샷 이후 삭제: %d건, 추가 색인: %d건, 전체: %d건 (%dms)",
+            restored ? "사용" : "없음", stale, indexed, posts.size(), System.currentTimeMillis() - startedAt
+        ));
+    }
+
+    /**
+     * 게시물 색인 (이미 색인된 게시물이면 교체)
+     */
+    public synchronized void index(PostSearchSource source) {
+        remove(source.id());
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String token : tokenize(source.title())) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : tokenize(source.content())) {
+            termFrequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        add(source.id(), new IndexedPost(source.boardType(), source.bad(), length, termFrequencies));
+    }
+
+    /**
+     * 게시물 제거 (삭제 시)
+     */
+    public synchronized void remove(Long postId) {
+        IndexedPost removed = posts.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(postId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term, postingList);
+                }
+            }
+        }
+        totalLength.addAndGet(-removed.length());
+        dirty.set(true);
+    }
+
+    /**
+     * 블라인드 여부 갱신 (블라인드 게시물은 검색 결과에서 제외)
+     */
+    public synchronized void setBad(Long postId, boolean bad) {
+        IndexedPost current = posts.get(postId);
+        if (current != null && current.bad() != bad) {
+            posts.put(postId, new IndexedPost(current.boardType(), bad, current.length(), current.termFrequencies()));
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * BM25 점수 상위 게시물 ID
+     * @param boardType null이면 전체 게시판
+     */
+    public List<Long> search(String query, PostBoardType boardType, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        int documentCount = posts.size();
+        if (terms.isEmpty() || documentCount == 0 || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength.get() / documentCount);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList == null) {
+                continue;
+            }
+            int df = postingList.size();
+            double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+
+            for (Map.Entry<Long, Integer> posting : postingList.entrySet()) {
+                IndexedPost post = posts.get(posting.getKey());
+                if (post == null || post.bad() || (boardType != null && post.boardType() != boardType)) {
+                    continue;
+                }
+                int tf = posting.getValue();
+                double norm = K1 * (1 - B + B * post.length() / averageLength);
+                scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            top.offer(score);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 변경이 있을 때만 주기적으로 스냅샷 저장
+     */
+    @Scheduled(
+        fixedDelayString = "${post.search.snapshot-interval-ms:600000}",
+        initialDelayString = "${post.search.snapshot-interval-ms:600000}"
+    )
+    public void saveSnapshotIfDirty() {
+        if (dirty.getAndSet(false)) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshotIfDirty();
+    }
+
+    /**
+     * 검색용 정규화 + 토큰화
+     * 한글 구간은 음절 bigram (한 글자면 그대로), 그 외 문자/숫자 구간은 단어 하나로 취급
+     */
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, hangulRun, tokens);
+                continue;
+            }
+            boolean hangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            if (run.length() > 0 && hangul != hangulRun) {
+                flush(run, hangulRun, tokens);
+            }
+            hangulRun = hangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, hangulRun, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        String word = run.toString();
+        run.setLength(0);
+
+        if (!hangul || word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private void add(Long postId, IndexedPost post) {
+        posts.put(postId, post);
+        for (Map.Entry<String, Integer> term : post.termFrequencies().entrySet()) {
+            postings.computeIfAbsent(term.getKey(), t -> new ConcurrentHashMap<>()).put(postId, term.getValue());
+        }
+        totalLength.addAndGet(post.length());
+        maxIndexedId.accumulateAndGet(postId, Math::max);
+        dirty.set(true);
+    }
+
+    /**
+     * 스냅샷 문서를 DB 상태와 맞춤 (스냅샷 이후 삭제된 게시물 제거, 블라인드 여부 갱신)
+     * 검색 상위 결과가 조회 시 걸러져 페이지가 비지 않도록 순위 계산 전에 정리
+     * @return 제거한 게시물 수
+     */
+    private int reconcileSnapshot(long maxId) {
+        Set<Long> missing = new HashSet<>();
+        for (Long postId : posts.keySet()) {
+            if (postId <= maxId) {
+                missing.add(postId);
+            }
+        }
+
+        long afterId = 0;
+        List<PostSearchState> batch;
+        do {
+            batch = postRepository.findSearchStatesBetween(afterId, maxId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (PostSearchState state : batch) {
+                if (missing.remove(state.id())) {
+                    setBad(state.id(), state.bad());
+                }
+                afterId = state.id();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        missing.forEach(this::remove);
+        return missing.size();
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 교체)
+     * 형식: 버전, 최대 게시물 ID, 문서 수, 문서별 (ID, 게시판, 블라인드, 길이, 토큰 수, (토큰, tf)...)
+     */
+    private synchronized void saveSnapshot() {
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "post-search-", ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(maxIndexedId.get());
+                out.writeInt(posts.size());
+                for (Map.Entry<Long, IndexedPost> entry : posts.entrySet()) {
+                    IndexedPost post = entry.getValue();
+                    out.writeLong(entry.getKey());
+                    out.writeUTF(post.boardType().name());
+                    out.writeBoolean(post.bad());
+                    out.writeInt(post.length());
+                    out.writeInt(post.termFrequencies().size());
+                    for (Map.Entry<String, Integer> term : post.termFrequencies().entrySet()) {
+                        out.writeUTF(term.getKey());
+                        out.writeInt(term.getValue());
+                    }
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("게시물 검색 인덱스 스냅샷 저장: " + posts.size() + "건");
+        } catch (IOException e) {
+            dirty.set(true);
+            System.out.println("게시물 검색 인덱스 스냅샷 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 적재 (없거나 읽을 수 없으면 false → 전체 색인)
+     * 스냅샷 이후 삭제/블라인드 변경은 reconcileSnapshot에서 반영
+     */
+    private synchronized boolean loadSnapshot() {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return false;
+            }
+            long maxId = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long postId = in.readLong();
+                PostBoardType boardType = PostBoardType.valueOf(in.readUTF());
+                boolean bad = in.readBoolean();
+                int length = in.readInt();
+                int termCount = in.readInt();
+                Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    termFrequencies.put(in.readUTF(), in.readInt());
+                }
+                add(postId, new IndexedPost(boardType, bad, length, termFrequencies));
+            }
+            maxIndexedId.accumulateAndGet(maxId, Math::max);
+            dirty.set(false);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("게시물 검색 인덱스 스냅샷을 읽을 수 없어 전체 색인합니다: " + e.getMessage());
+            posts.clear();
+            postings.clear();
+            totalLength.set(0);
+            maxIndexedId.set(0);
+            return false;
+        }
+    }
+}
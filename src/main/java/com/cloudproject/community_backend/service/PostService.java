@@ -3,18 +3,44 @@ package com.cloudproject.community_backend.service;
 import com.cloudproject.community_backend.controller.PostController.MeetingInfo;
 import com.cloudproject.community_backend.controller.PostController.PostCreateRequest;
 import com.cloudproject.community_backend.controller.PostController.QuestionInfo;
+import com.cloudproject.community_backend.dto.CommentLikeState;
+import com.cloudproject.community_backend.dto.CommentViewResponse;
+import com.cloudproject.community_backend.dto.CategoryFacetResponse;
+import com.cloudproject.community_backend.dto.CursorPageResponse;
+import com.cloudproject.community_backend.dto.KeysetCursor;
+import com.cloudproject.community_backend.dto.PostDetailResponse;
+import com.cloudproject.community_backend.dto.PostSearchSource;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.dto.PostViewResponse;
 import com.cloudproject.community_backend.entity.MeetingPostDetail;
 import com.cloudproject.community_backend.entity.Post;
 import com.cloudproject.community_backend.entity.PostBoardType;
 import com.cloudproject.community_backend.entity.QuestionPostDetail;
+import com.cloudproject.community_backend.repository.CommentLikeRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.PostLikeRepository;
 import com.cloudproject.community_backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,9 +48,26 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final ContentFilterService contentFilterService;
+    private final PostFeedCache postFeedCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTrendingService postTrendingService;
+    private final PostViewCounter postViewCounter;
+    private final UpcomingMeetingIndex upcomingMeetingIndex;
+    private final QuestionCategoryFacets questionCategoryFacets;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
 
     private static final DateTimeFormatter ISO_LOCAL_DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * 검색으로 조회할 수 있는 최대 결과 수 (page * size 상한)
+     */
+    private static final int MAX_SEARCH_RESULTS = 500;
+
     public Post createPost(Post post, PostCreateRequest request) {
         com.cloudproject.community_backend.dto.FilterResult filterResult =
             contentFilterService.filterContent(
@@ -34,6 +77,7 @@ public class PostService {
             );
 
         post.setBad(filterResult.isBlocked());
+        post.setSchoolId(post.getAuthor().getSchool().getId());
 
         // 선배만 댓글 설정
         if (request.seniorOnlyComment() != null) {
@@ -80,7 +124,283 @@ public class PostService {
             post.setQuestionDetails(detail);
         }
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        postFeedCache.evict(saved.getBoardType());
+        postSearchIndex.index(new PostSearchSource(
+            saved.getId(), saved.getBoardType(), saved.getTitle(), saved.getContent(), saved.isBad()
+        ));
+        if (saved.getBoardType() == PostBoardType.MEETING) {
+            upcomingMeetingIndex.refresh(saved.getId());
+        } else if (saved.getBoardType() == PostBoardType.QUESTION) {
+            questionCategoryFacets.recordCreated(saved.getSchoolId(), saved.getQuestionDetails().getCategoryName());
+        }
+        return saved;
+    }
+
+    /**
+     * 게시물 삭제 (삭제 표시만 하고 즉시 응답, 댓글/좋아요 등은 PostPurgeService가 나중에 제거)
+     */
+    @Transactional
+    public void deletePost(Post post) {
+        if (postRepository.markDeleted(post.getId(), LocalDateTime.now()) == 0) {
+            // 이미 삭제 표시된 게시물
+            return;
+        }
+        if (post.getBoardType() == PostBoardType.QUESTION) {
+            postRepository.findQuestionCategory(post.getId())
+                .ifPresent(category -> questionCategoryFacets.recordDeleted(post.getSchoolId(), category));
+        }
+        postFeedCache.evict(post.getBoardType());
+        postSearchIndex.remove(post.getId());
+        postTrendingService.remove(post.getId());
+        upcomingMeetingIndex.remove(post.getId());
+    }
+
+    /**
+     * 게시물 피드 조회 (createdAt, id 기준 keyset 페이징)
+     * - OFFSET 없이 커서 이후 행만 인덱스 범위 검색하므로 페이지 비용이 테이블 크기와 무관
+     * @param boardType null이면 전체 게시판
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummaryResponse> getFeed(PostBoardType boardType, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (캐시 범위 안이면 DB 조회 없음)
+        List<PostSummaryResponse> rows = postFeedCache
+            .get(boardType, after, pageSize + 1, n -> loadFeed(boardType, null, n))
+            .orElseGet(() -> loadFeed(boardType, after, pageSize + 1));
+
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * 학교별 피드 조회 (school_id 선두 복합 인덱스로 해당 학교 게시물만 범위 검색)
+     * 학교 수만큼 늘어나므로 피드 캐시는 사용하지 않음
+     * @param boardType null이면 학교 전체 게시판
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummaryResponse> getSchoolFeed(
+        Long schoolId,
+        PostBoardType boardType,
+        String cursor,
+        int size
+    ) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryResponse> rows;
+        if (boardType != null) {
+            rows = after == null
+                ? postRepository.findSchoolFeedByBoardType(schoolId, boardType, pageable)
+                : postRepository.findSchoolFeedByBoardTypeAfter(schoolId, boardType, after.createdAt(), after.id(), pageable);
+        } else {
+            rows = after == null
+                ? postRepository.findSchoolFeed(schoolId, pageable)
+                : postRepository.findSchoolFeedAfter(schoolId, after.createdAt(), after.id(), pageable);
+        }
+        return toCursorPage(rows, pageSize);
     }
-}
 
+    /**
+     * 카테고리별 질문 피드 (게시물 ID 역순 keyset 페이징, idx_question_category_post 범위 검색)
+     * 카테고리 수만큼 늘어나므로 피드 캐시는 사용하지 않음
+     * @param schoolId null이면 전체 학교
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummaryResponse> getQuestionFeedByCategory(
+        Long schoolId,
+        String category,
+        String cursor,
+        int size
+    ) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryResponse> rows;
+        if (schoolId != null) {
+            rows = after == null
+                ? postRepository.findSchoolQuestionFeedByCategory(schoolId, category, pageable)
+                : postRepository.findSchoolQuestionFeedByCategoryAfter(schoolId, category, after.id(), pageable);
+        } else {
+            rows = after == null
+                ? postRepository.findQuestionFeedByCategory(category, pageable)
+                : postRepository.findQuestionFeedByCategoryAfter(category, after.id(), pageable);
+        }
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * 질문 카테고리별 질문 수 (메모리 패싯, DB 조회 없음)
+     * @param schoolId null이면 전체 학교
+     */
+    public List<CategoryFacetResponse> getQuestionCategoryFacets(Long schoolId) {
+        return questionCategoryFacets.getFacets(schoolId);
+    }
+
+    /**
+     * pageSize + 1건 조회 결과를 페이지로 변환 (초과분이 있으면 마지막 행으로 다음 커서 생성)
+     */
+    private CursorPageResponse<PostSummaryResponse> toCursorPage(List<PostSummaryResponse> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            PostSummaryResponse last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(rows, nextCursor);
+    }
+
+    private List<PostSummaryResponse> loadFeed(PostBoardType boardType, KeysetCursor after, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (boardType != null) {
+            return after == null
+                ? postRepository.findFeedByBoardType(boardType, pageable)
+                : postRepository.findFeedByBoardTypeAfter(boardType, after.createdAt(), after.id(), pageable);
+        }
+        return after == null
+            ? postRepository.findFeed(pageable)
+            : postRepository.findFeedAfter(after.createdAt(), after.id(), pageable);
+    }
+
+    /**
+     * 게시물 상세/좋아요 수/댓글 목록 공용 ETag
+     * 버전 컬럼만 조회하므로 클라이언트 캐시가 최신이면 본문 조회 없이 304 응답 가능
+     */
+    @Transactional(readOnly = true)
+    public String getEtag(Long postId) {
+        long version = postRepository.findVersionById(postId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        return "\"" + postId + "-" + version + "\"";
+    }
+
+    /**
+     * 게시물 ETag 기준 조건부 응답
+     * If-None-Match가 같으면 본문 조회 없이 304, 다르면 body로 200 (둘 다 ETag + no-cache 포함)
+     */
+    public <T> ResponseEntity<T> conditionalResponse(Long postId, WebRequest request, Supplier<T> body) {
+        String etag = getEtag(postId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(body.get());
+    }
+
+    /**
+     * 게시물 상세 조회 (필요한 컬럼만 DTO로 조회)
+     */
+    @Transactional(readOnly = true)
+    public PostDetailResponse getPostDetail(Long id) {
+        PostDetailResponse detail = postRepository.findDetailById(id)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        if (!detail.isBad()) {
+            postViewCounter.increment(detail.getId());
+            postTrendingService.recordViews(detail.getId(), detail.getBoardType(), 1);
+        }
+        return detail;
+    }
+
+    /**
+     * 게시물 화면 조회 (상세 + 댓글 트리 + 좋아요 수 + 내 반응)
+     * 댓글 수와 관계없이 최대 4번의 쿼리로 조회 (상세, 댓글 목록, 내 게시물 반응, 내 댓글 반응)
+     * @param viewerEmail 로그인 사용자 이메일 (비로그인이면 null, 내 반응 조회 생략)
+     */
+    @Transactional(readOnly = true)
+    public PostViewResponse getPostView(Long id, String viewerEmail) {
+        PostDetailResponse detail = getPostDetail(id);
+        List<CommentViewResponse> comments = commentRepository.findViewsByPostId(id);
+
+        String myReaction = null;
+        if (viewerEmail != null) {
+            myReaction = postLikeRepository.findLikedByPostIdAndUserEmail(id, viewerEmail)
+                .map(PostService::toReaction)
+                .orElse(null);
+
+            Map<Long, Boolean> myCommentLikes = commentLikeRepository.findStatesByPostIdAndUserEmail(id, viewerEmail)
+                .stream()
+                .collect(Collectors.toMap(CommentLikeState::commentId, CommentLikeState::liked));
+            for (CommentViewResponse comment : comments) {
+                comment.setMyReaction(toReaction(myCommentLikes.get(comment.getId())));
+            }
+        }
+        return new PostViewResponse(detail, myReaction, toThreads(comments));
+    }
+
+    /**
+     * 작성순 댓글 목록을 부모-대댓글 트리로 변환 (부모가 없으면 일반 댓글로 취급)
+     */
+    private List<CommentViewResponse> toThreads(List<CommentViewResponse> comments) {
+        Map<Long, CommentViewResponse> byId = new HashMap<>();
+        for (CommentViewResponse comment : comments) {
+            byId.put(comment.getId(), comment);
+        }
+
+        List<CommentViewResponse> roots = new ArrayList<>();
+        for (CommentViewResponse comment : comments) {
+            CommentViewResponse parent = comment.getParentId() != null ? byId.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+        return roots;
+    }
+
+    private static String toReaction(Boolean liked) {
+        if (liked == null) {
+            return null;
+        }
+        return liked ? "LIKE" : "DISLIKE";
+    }
+
+    /**
+     * 게시물 검색 (메모리 인덱스로 순위 계산 후 해당 게시물만 DB 조회)
+     * 인덱스 스냅샷이 오래되어 이미 삭제/블라인드된 게시물은 여기서 제외
+     * @param boardType null이면 전체 게시판
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> searchPosts(String query, PostBoardType boardType, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = Math.max(0, page) * pageSize;
+        if (offset + pageSize > MAX_SEARCH_RESULTS) {
+            return List.of();
+        }
+
+        List<Long> ranked = postSearchIndex.search(query, boardType, offset + pageSize);
+        if (ranked.size() <= offset) {
+            return List.of();
+        }
+        return findSummariesInOrder(ranked.subList(offset, ranked.size()));
+    }
+
+    /**
+     * 인기글 조회 (랭킹 상위 ID만 DB 조회, 순서는 랭킹 순)
+     * @param boardType null이면 전체 게시판
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getTrendingPosts(PostBoardType boardType, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return findSummariesInOrder(postTrendingService.getTopPostIds(boardType, limit));
+    }
+
+    /**
+     * ID 순서를 유지해 목록 DTO 조회 (삭제/블라인드된 게시물 제외)
+     */
+    private List<PostSummaryResponse> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummaryResponse> found = postRepository.findSummariesByIdIn(ids).stream()
+            .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+
+        return ids.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .filter(post -> !post.isBad())
+            .toList();
+    }
+}
@@ -0,0 +1,236 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.PostTrendingSource;
+import com.cloudproject.community_backend.entity.Post;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기글 랭킹 (시간 감쇠 점수)
+ * - 좋아요/댓글/조회 발생 시 해당 게시물 점수만 증분 갱신 (좋아요/댓글은 커밋 후 반영, 블라인드 게시물은 제외)
+ * - 게시판별 + 전체 정렬 집합(ConcurrentSkipListSet)을 유지해 상위 K개 조회는 O(K)
+ * - 감쇠는 조회 시점이 아니라 주기 작업에서 전체 점수에 한 번에 적용
+ * - 시작 시 최근 게시물의 카운터 컬럼으로 점수를 다시 계산
+ */
+@Service
+public class PostTrendingService {
+
+    private static final double LIKE_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 5.0;
+    private static final double VIEW_WEIGHT = 0.2;
+
+    /**
+     * 이 점수 미만으로 감쇠된 게시물은 랭킹에서 제거 (메모리 상한)
+     */
+    private static final double MIN_SCORE = 0.05;
+
+    /**
+     * 감쇠 주기 (분)
+     */
+    private static final long DECAY_INTERVAL_MINUTES = 10;
+
+    private final PostRepository postRepository;
+    private final double halfLifeHours;
+    private final double decayFactor;
+
+    /**
+     * 게시물 ID -> 현재 랭킹 항목
+     */
+    private final Map<Long, TrendingEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 게시판별 점수 내림차순 집합
+     */
+    private final Map<PostBoardType, NavigableSet<TrendingEntry>> boards = new EnumMap<>(PostBoardType.class);
+    private final NavigableSet<TrendingEntry> allBoards = new ConcurrentSkipListSet<>(TrendingEntry.ORDER);
+
+    /**
+     * 점수 증분은 동시에(read lock), 전체 감쇠는 단독으로(write lock) 실행
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record TrendingEntry(long postId, PostBoardType boardType, double score) {
+        private static final Comparator<TrendingEntry> ORDER = Comparator
+            .comparingDouble(TrendingEntry::score).reversed()
+            .thenComparing(Comparator.comparingLong(TrendingEntry::postId).reversed());
+    }
+
+    public PostTrendingService(
+        PostRepository postRepository,
+        @Value("${post.trending.half-life-hours:12}") double halfLifeHours
+    ) {
+        this.postRepository = postRepository;
+        this.halfLifeHours = halfLifeHours;
+        this.decayFactor = Math.pow(0.5, DECAY_INTERVAL_MINUTES / 60.0 / halfLifeHours);
+        for (PostBoardType boardType : PostBoardType.values()) {
+            boards.put(boardType, new ConcurrentSkipListSet<>(TrendingEntry.ORDER));
+        }
+    }
+
+    /**
+     * 최근 게시물의 좋아요/댓글/조회 수를 작성 후 경과 시간만큼 감쇠해 점수 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        // 반감기 10번이 지나면 점수가 1/1024 이하로 떨어지므로 그 이전 게시물은 제외
+        LocalDateTime since = now.minusMinutes((long) (halfLifeHours * 60 * 10));
+
+        List<PostTrendingSource> sources = postRepository.findTrendingSources(since);
+        for (PostTrendingSource source : sources) {
+            double raw = source.likeCount() * LIKE_WEIGHT
+                + source.commentCount() * COMMENT_WEIGHT
+                + source.viewCount() * VIEW_WEIGHT;
+            double ageHours = Duration.between(source.createdAt(), now).toMinutes() / 60.0;
+            addScore(source.id(), source.boardType(), raw * Math.pow(0.5, ageHours / halfLifeHours));
+        }
+        System.out.println("인기글 랭킹 적재 완료: " + entries.size() + "건");
+    }
+
+    /**
+     * 좋아요 변경 반영 (취소 시 음수)
+     */
+    public void recordLike(Post post, long likeDelta) {
+        if (!post.isBad()) {
+            afterCommit(() -> addScore(post.getId(), post.getBoardType(), likeDelta * LIKE_WEIGHT));
+        }
+    }
+
+    public void recordComment(Post post) {
+        if (!post.isBad()) {
+            afterCommit(() -> addScore(post.getId(), post.getBoardType(), COMMENT_WEIGHT));
+        }
+    }
+
+    public void recordViews(Long postId, PostBoardType boardType, long views) {
+        addScore(postId, boardType, views * VIEW_WEIGHT);
+    }
+
+    /**
+     * 랭킹에서 제거 (삭제/블라인드 시)
+     */
+    public void remove(Long postId) {
+        lock.readLock().lock();
+        try {
+            entries.computeIfPresent(postId, (id, current) -> {
+                unlink(current);
+                return null;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 상위 게시물 ID (O(limit))
+     * @param boardType null이면 전체 게시판
+     */
+    public List<Long> getTopPostIds(PostBoardType boardType, int limit) {
+        NavigableSet<TrendingEntry> ranking = boardType != null ? boards.get(boardType) : allBoards;
+        List<Long> ids = new ArrayList<>(limit);
+        for (TrendingEntry entry : ranking) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            ids.add(entry.postId());
+        }
+        return ids;
+    }
+
+    /**
+     * 주기적 감쇠 (모든 점수에 같은 비율을 곱하므로 순위는 유지, 낮아진 항목은 제거)
+     */
+    @Scheduled(fixedRate = DECAY_INTERVAL_MINUTES * 60_000, initialDelay = DECAY_INTERVAL_MINUTES * 60_000)
+    public void decay() {
+        lock.writeLock().lock();
+        try {
+            List<TrendingEntry> decayed = new ArrayList<>(entries.size());
+            for (TrendingEntry entry : entries.values()) {
+                double score = entry.score() * decayFactor;
+                if (score >= MIN_SCORE) {
+                    decayed.add(new TrendingEntry(entry.postId(), entry.boardType(), score));
+                }
+            }
+
+            entries.clear();
+            allBoards.clear();
+            boards.values().forEach(NavigableSet::clear);
+            for (TrendingEntry entry : decayed) {
+                entries.put(entry.postId(), entry);
+                link(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addScore(Long postId, PostBoardType boardType, double delta) {
+        if (postId == null || boardType == null || delta == 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            // 게시물 단위 원자적 갱신 (정렬 집합에서 기존 항목을 빼고 새 점수로 삽입)
+            entries.compute(postId, (id, current) -> {
+                double score = Math.max(0, (current != null ? current.score() : 0) + delta);
+                if (current != null) {
+                    unlink(current);
+                }
+                if (score < MIN_SCORE) {
+                    return null;
+                }
+                TrendingEntry updated = new TrendingEntry(postId, boardType, score);
+                link(updated);
+                return updated;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 실행 (롤백된 좋아요/댓글이 점수에 남지 않도록)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void link(TrendingEntry entry) {
+        boards.get(entry.boardType()).add(entry);
+        allBoards.add(entry);
+    }
+
+    private void unlink(TrendingEntry entry) {
+        boards.get(entry.boardType()).remove(entry);
+        allBoards.remove(entry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시물 조회수 버퍼
+ * - 조회 시 DB를 건드리지 않고 게시물별 AtomicLong에만 누적 (인기 게시물도 행 잠금 경합 없음)
+ * - 반영 시 getAndSet(0)으로 꺼내기와 비우기를 한 번에 실행해 그 사이 조회가 사라지지 않음
+ * - 주기적으로 누적분을 같은 증가량끼리 묶어 UPDATE ... WHERE id IN (...) 으로 일괄 반영
+ * - 종료 시 남은 누적분을 한 번 더 반영
+ */
+@Service
+public class PostViewCounter {
+
+    /**
+     * UPDATE 한 번에 포함할 최대 게시물 수
+     */
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * 버퍼에서 제거된 누적기 표시 (이 값을 본 누적은 새 누적기에 다시 시도)
+     */
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 증가량별로 게시물 ID 묶기 (대부분 작은 값이라 UPDATE 수가 크게 줄어듦)
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        for (Map.Entry<Long, AtomicLong> entry : pending.entrySet()) {
+            long delta = entry.getValue().getAndSet(0);
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없던 게시물은 버퍼에서 제거 (0일 때만 제거 표시, 그 사이 조회가 있으면 유지)
+                pending.computeIfPresent(entry.getKey(), (id, counter) -> counter.compareAndSet(0, REMOVED) ? null : counter);
+                continue;
+            }
+            idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(entry.getKey());
+        }
+
+        for (Map.Entry<Long, List<Long>> group : idsByDelta.entrySet()) {
+            long delta = group.getKey();
+            List<Long> ids = group.getValue();
+            for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size()));
+                try {
+                    postRepository.incrementViewCounts(batch, delta);
+                } catch (Exception e) {
+                    // 반영 실패분은 다음 주기에 다시 시도
+                    System.out.println("조회수 반영 실패 - 다음 주기에 재시도: " + e.getMessage());
+                    batch.forEach(id -> add(id, delta));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 제거 표시된 누적기에는 더하지 않고 새 누적기를 받아 다시 시도
+     */
+    private void add(Long postId, long delta) {
+        while (true) {
+            AtomicLong counter = pending.computeIfAbsent(postId, id -> new AtomicLong());
+            long updated = counter.accumulateAndGet(delta, (current, d) -> current == REMOVED ? REMOVED : current + d);
+            if (updated != REMOVED) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.CategoryFacetResponse;
+import com.cloudproject.community_backend.dto.QuestionCategoryCount;
+import com.cloudproject.community_backend.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 질문 게시판 카테고리 패싯 ("수학 (132)")
+ * - 시작 시 학교+카테고리별 GROUP BY 한 번으로 적재
+ * - 질문 작성/삭제 시 해당 카테고리 카운터만 증감 (트랜잭션 안이면 커밋 후)
+ * - 조회는 메모리 카운터만 읽음 (전체 / 학교별)
+ */
+@Service
+public class QuestionCategoryFacets {
+
+    private static final Comparator<CategoryFacetResponse> ORDER = Comparator
+        .comparingLong(CategoryFacetResponse::count).reversed()
+        .thenComparing(CategoryFacetResponse::categoryName);
+
+    private final PostRepository postRepository;
+
+    /**
+     * 카테고리 -> 전체 질문 수
+     */
+    private final Map<String, LongAdder> totals = new ConcurrentHashMap<>();
+
+    /**
+     * 학교 ID -> 카테고리 -> 질문 수
+     */
+    private final Map<Long, Map<String, LongAdder>> bySchool = new ConcurrentHashMap<>();
+
+    public QuestionCategoryFacets(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        totals.clear();
+        bySchool.clear();
+        List<QuestionCategoryCount> counts = postRepository.countQuestionsByCategory();
+        for (QuestionCategoryCount count : counts) {
+            add(count.schoolId(), count.categoryName(), count.count());
+        }
+        System.out.println("질문 카테고리 패싯 적재 완료: " + totals.size() + "개 카테고리");
+    }
+
+    /**
+     * 질문 작성 반영
+     */
+    public void recordCreated(Long schoolId, String categoryName) {
+        afterCommit(() -> add(schoolId, categoryName, 1));
+    }
+
+    /**
+     * 질문 삭제 반영
+     */
+    public void recordDeleted(Long schoolId, String categoryName) {
+        afterCommit(() -> add(schoolId, categoryName, -1));
+    }
+
+    /**
+     * 카테고리별 질문 수 (많은 순)
+     * @param schoolId null이면 전체 학교
+     */
+    public List<CategoryFacetResponse> getFacets(Long schoolId) {
+        Map<String, LongAdder> counters = schoolId != null ? bySchool.getOrDefault(schoolId, Map.of()) : totals;
+        List<CategoryFacetResponse> facets = new ArrayList<>(counters.size());
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count > 0) {
+                facets.add(new CategoryFacetResponse(entry.getKey(), count));
+            }
+        }
+        facets.sort(ORDER);
+        return facets;
+    }
+
+    private void add(Long schoolId, String categoryName, long delta) {
+        if (categoryName == null || categoryName.isBlank()) {
+            return;
+        }
+        totals.computeIfAbsent(categoryName, c -> new LongAdder()).add(delta);
+        if (schoolId != null) {
+            bySchool.computeIfAbsent(schoolId, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(categoryName, c -> new LongAdder())
+                .add(delta);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
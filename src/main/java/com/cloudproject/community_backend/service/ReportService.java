@@ -25,6 +25,10 @@ public class ReportService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final PostFeedCache postFeedCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTrendingService postTrendingService;
+    private final UpcomingMeetingIndex upcomingMeetingIndex;
 
     /**
      * 신고 생성
@@ -108,12 +112,17 @@ public class ReportService {
 
             if (targetType == TargetType.POST) {
                 Post post = postRepository.findById(targetId).orElseThrow();
-                post.setBad(true);  // isBad = true로 설정하여 블라인드 처리
-                postRepository.save(post);
+                postRepository.markBad(post.getId());  // isBad = true로 설정하여 블라인드 처리 (카운터 컬럼은 건드리지 않음)
+                postFeedCache.evict(post.getBoardType());
+                postSearchIndex.setBad(post.getId(), true);
+                postTrendingService.remove(post.getId());
+                upcomingMeetingIndex.remove(post.getId());
             } else if (targetType == TargetType.COMMENT) {
                 Comment comment = commentRepository.findById(targetId).orElseThrow();
-                comment.setBad(true);
-                commentRepository.save(comment);
+                commentRepository.markBad(comment.getId());
+                if (comment.getPost() != null) {
+                    postRepository.bumpVersion(comment.getPost().getId());
+                }
             }
 
             // TODO: 관리자에게 알림 전송
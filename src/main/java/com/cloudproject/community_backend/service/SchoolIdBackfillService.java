@@ -0,0 +1,50 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.function.BiFunction;
+
+/**
+ * 학교 ID 컬럼 추가 이전에 작성된 게시물/댓글의 school_id 채우기
+ * - 시작 시 한 번 실행, 이미 채워진 행은 건너뜀
+ * - id 구간 단위로 나눠 짧은 트랜잭션으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class SchoolIdBackfillService {
+
+    /**
+     * 한 번에 처리할 id 구간 크기
+     */
+    private static final long BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // 댓글은 게시물 학교 ID를 복사하므로 게시물 먼저
+        int posts = backfillInBatches(postRepository.findMaxId(), postRepository::backfillSchoolIds);
+        int comments = backfillInBatches(commentRepository.findMaxId(), commentRepository::backfillSchoolIds);
+
+        if (posts > 0 || comments > 0) {
+            System.out.println(String.format("학교 ID 채우기 완료 - 게시물: %d건, 댓글: %d건", posts, comments));
+        }
+    }
+
+    private int backfillInBatches(Long maxId, BiFunction<Long, Long, Integer> backfillRange) {
+        if (maxId == null) {
+            return 0;
+        }
+        int updated = 0;
+        for (long fromId = 0; fromId < maxId; fromId += BATCH_SIZE) {
+            updated += backfillRange.apply(fromId, Math.min(fromId + BATCH_SIZE, maxId));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,296 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.repository.SchoolRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학교명 유사도 검색 인덱스 (메모리 n-gram 역색인)
+ * - 한글 학교명과 영문(로마자) 학교명을 모두 색인 (한글은 bigram, 영문은 trigram)
+ * - OCR 오인식(글자 누락/치환)이 있어도 가장 비슷한 학교를 점수와 함께 반환
+ * - "중학교", "High School" 같은 공통 접미사는 학교 종류로 분리해서 비교
+ *   (서울중학교 / 부산중학교처럼 접미사만 같은 학교가 매칭되지 않도록)
+ * - 시작 시 전체 학교를 적재하고, 학교 생성 시 add()로 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class SchoolNameIndex {
+
+    /**
+     * 같은 학교로 판단하는 최소 유사도 (n-gram Jaccard)
+     */
+    public static final double MIN_MATCH_SCORE = 0.5;
+
+    /**
+     * 점수 계산 대상 후보 최대 개수 (공유 n-gram 수 기준 상위)
+     */
+    private static final int MAX_CANDIDATES = 50;
+
+    private final SchoolRepository schoolRepository;
+
+    /**
+     * n-gram -> 해당 n-gram을 가진 학교명 목록
+     */
+    private final Map<String, Set<NameEntry>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 학교 ID -> 색인된 학교명 목록 (재색인 시 기존 항목 제거용)
+     */
+    private final Map<Long, List<NameEntry>> entriesBySchool = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 결과 (학교 ID, 매칭된 학교명, 유사도 0.0 ~ 1.0)
+     */
+    public record SchoolMatch(Long schoolId, String name, double score) {}
+
+    /**
+     * 학교 종류 (한글/영문 접미사를 같은 종류로 취급)
+     */
+    private enum SchoolKind {
+        ELEMENTARY("초등학교", "elementaryschool"),
+        MIDDLE("중학교", "middleschool"),
+        HIGH("고등학교", "highschool"),
+        UNIVERSITY("대학교", "university");
+
+        private final String[] suffixes;
+
+        SchoolKind(String... suffixes) {
+            this.suffixes = suffixes;
+        }
+    }
+
+    /**
+     * 정규화된 학교명 + 종류 + 고유 부분(접미사 제외)의 n-gram
+     */
+    private record AnalyzedName(SchoolKind kind, Set<String> fullGrams, Set<String> coreGrams) {}
+
+    /**
+     * 색인 항목 (동일성 비교로 역색인에서 제거)
+     */
+    private static final class NameEntry {
+        private final Long schoolId;
+        private final String name;
+        private final AnalyzedName analyzed;
+
+        private NameEntry(Long schoolId, String name, AnalyzedName analyzed) {
+            this.schoolId = schoolId;
+            this.name = name;
+            this.analyzed = analyzed;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        List<School> schools = schoolRepository.findAll();
+        schools.forEach(this::add);
+        System.out.println("학교명 인덱스 적재 완료: " + schools.size() + "개");
+    }
+
+    /**
+     * 학교 색인 (이미 색인된 학교면 학교명을 갱신)
+     */
+    public synchronized void add(School school) {
+        if (school.getId() == null) {
+            return;
+        }
+        remove(school.getId());
+
+        List<NameEntry> entries = new ArrayList<>();
+        for (String name : new String[]{school.getName(), school.getEnglishName()}) {
+            AnalyzedName analyzed = analyze(name);
+            if (analyzed.fullGrams().isEmpty()) {
+                continue;
+            }
+            NameEntry entry = new NameEntry(school.getId(), name, analyzed);
+            for (String gram : analyzed.fullGrams()) {
+                postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(entry);
+            }
+            entries.add(entry);
+        }
+        entriesBySchool.put(school.getId(), entries);
+    }
+
+    private void remove(Long schoolId) {
+        List<NameEntry> entries = entriesBySchool.remove(schoolId);
+        if (entries == null) {
+            return;
+        }
+        for (NameEntry entry : entries) {
+            for (String gram : entry.analyzed.fullGrams()) {
+                Set<NameEntry> set = postings.get(gram);
+                if (set != null) {
+                    set.remove(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * 유사도 상위 학교 검색 (학교당 가장 높은 점수의 이름 하나만 반환)
+     */
+    public List<SchoolMatch> search(String query, int limit) {
+        AnalyzedName analyzedQuery = analyze(query);
+        if (analyzedQuery.fullGrams().isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 역색인으로 n-gram을 하나 이상 공유하는 후보 수집
+        Map<NameEntry, Integer> shared = new HashMap<>();
+        for (String gram : analyzedQuery.fullGrams()) {
+            Set<NameEntry> entries = postings.get(gram);
+            if (entries == null) {
+                continue;
+            }
+            for (NameEntry entry : entries) {
+                shared.merge(entry, 1, Integer::sum);
+            }
+        }
+
+        // 2. 공유 n-gram이 많은 후보만 정밀 점수 계산
+        Map<Long, SchoolMatch> bestBySchool = new HashMap<>();
+        shared.entrySet().stream()
+            .sorted(Map.Entry.<NameEntry, Integer>comparingByValue().reversed())
+            .limit(MAX_CANDIDATES)
+            .forEach(candidate -> {
+                NameEntry entry = candidate.getKey();
+                double score = score(analyzedQuery, entry.analyzed);
+                if (score <= 0.0) {
+                    return;
+                }
+                bestBySchool.merge(
+                    entry.schoolId,
+                    new SchoolMatch(entry.schoolId, entry.name, score),
+                    (a, b) -> a.score() >= b.score() ? a : b
+                );
+            });
+
+        return bestBySchool.values().stream()
+            .sorted(Comparator.comparingDouble(SchoolMatch::score).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * 최소 유사도 이상인 가장 비슷한 학교
+     */
+    public Optional<SchoolMatch> bestMatch(String query, double minScore) {
+        return search(query, 1).stream()
+            .filter(match -> match.score() >= minScore)
+            .findFirst();
+    }
+
+    /**
+     * 두 학교명의 유사도 (0.0 ~ 1.0)
+     */
+    public static double similarity(String a, String b) {
+        return score(analyze(a), analyze(b));
+    }
+
+    /**
+     * 공백/기호 제거 + 소문자 + 유니코드 정규화 (OCR 결과와 입력값 비교용)
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    /**
+     * 양쪽 모두 학교 종류를 알 수 있으면 종류가 같을 때만 고유 부분끼리 비교,
+     * 한쪽이라도 접미사가 오인식되어 종류를 모르면 전체 이름으로 비교
+     */
+    private static double score(AnalyzedName a, AnalyzedName b) {
+        if (a.kind() != null && b.kind() != null) {
+            if (a.kind() != b.kind()) {
+                return 0.0;
+            }
+            if (!a.coreGrams().isEmpty() && !b.coreGrams().isEmpty()) {
+                return jaccard(a.coreGrams(), b.coreGrams());
+            }
+        }
+        return jaccard(a.fullGrams(), b.fullGrams());
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int shared = 0;
+        for (String gram : a) {
+            if (b.contains(gram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private static AnalyzedName analyze(String name) {
+        String normalized = foldOcrConfusions(normalize(name));
+        SchoolKind kind = null;
+        String core = normalized;
+
+        for (SchoolKind candidate : SchoolKind.values()) {
+            for (String suffix : candidate.suffixes) {
+                if (normalized.endsWith(suffix)) {
+                    kind = candidate;
+                    core = normalized.substring(0, normalized.length() - suffix.length());
+                    break;
+                }
+            }
+            if (kind != null) {
+                break;
+            }
+        }
+
+        return new AnalyzedName(kind, grams(normalized), grams(core));
+    }
+
+    /**
+     * 영문 학교명에서 OCR이 자주 헷갈리는 숫자를 문자로 통일 (Seou1 → Seoul, B0ston → Boston)
+     */
+    private static String foldOcrConfusions(String normalized) {
+        if (normalized.codePoints().anyMatch(SchoolNameIndex::isHangul)) {
+            return normalized;
+        }
+        return normalized.replace('0', 'o').replace('1', 'l');
+    }
+
+    /**
+     * 양 끝에 경계 문자를 붙인 n-gram 집합
+     * 한글은 음절 하나에 정보가 많아 bigram, 영문은 trigram 사용
+     */
+    private static Set<String> grams(String normalized) {
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        int gramSize = normalized.codePoints().anyMatch(SchoolNameIndex::isHangul) ? 2 : 3;
+        String padded = "^" + normalized + "$";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + gramSize <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,220 @@
+package com.cloudproject.community_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 학생증 이미지 전처리 서비스
+ * - OCR에 필요한 해상도로 축소 + 흑백 변환 + JPEG 재압축
+ * - 제한된 전용 스레드 풀에서 실행하고, 실패/과부하 시 원본을 그대로 사용
+ */
+@Service
+public class StudentCardImagePreprocessor {
+
+    private static final long PREPROCESS_TIMEOUT_SECONDS = 10;
+
+    /**
+     * 디코딩을 허용할 최대 픽셀 수 (헤더에 큰 크기만 적힌 압축 폭탄 이미지로 힙이 고갈되지 않도록)
+     * 학생증 사진은 고해상도 휴대폰 카메라도 5천만 픽셀 미만
+     */
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxDimension;
+    private final float jpegQuality;
+
+    private final DistributionSummary originalBytes;
+    private final DistributionSummary processedBytes;
+    private final Timer preprocessTimer;
+    private final Counter fallbackCounter;
+
+    public StudentCardImagePreprocessor(
+        @Qualifier("ocrImageExecutor") ThreadPoolTaskExecutor executor,
+        MeterRegistry meterRegistry,
+        @Value("${ocr.preprocess.max-dimension:1600}") int maxDimension,
+        @Value("${ocr.preprocess.jpeg-quality:0.85}") float jpegQuality
+    ) {
+        this.executor = executor;
+        this.maxDimension = maxDimension;
+        this.jpegQuality = jpegQuality;
+
+        this.originalBytes = DistributionSummary.builder("ocr.image.bytes")
+            .description("OCR 업로드 이미지 크기")
+            .baseUnit("bytes")
+            .tag("stage", "original")
+            .register(meterRegistry);
+        this.processedBytes = DistributionSummary.builder("ocr.image.bytes")
+            .description("OCR 업로드 이미지 크기")
+            .baseUnit("bytes")
+            .tag("stage", "processed")
+            .register(meterRegistry);
+        this.preprocessTimer = Timer.builder("ocr.image.preprocess")
+            .description("학생증 이미지 전처리 소요 시간")
+            .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("ocr.image.preprocess.fallback")
+            .description("전처리 실패로 원본 이미지를 전송한 횟수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 학생증 이미지 전처리
+     * @param size 원본 바이트 수
+     * @return 재압축된 JPEG 바이트 (전처리 불가 또는 원본보다 크면 empty → 원본 전송)
+     */
+    public Optional<byte[]> preprocess(InputStreamSource studentCard, long size) {
+        originalBytes.record(size);
+
+        Future<byte[]> future = null;
+        try {
+            future = executor.submit(() -> preprocessTimer.recordCallable(() -> encode(studentCard)));
+            byte[] processed = future.get(PREPROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            if (processed == null || processed.length >= size) {
+                fallbackCounter.increment();
+                processedBytes.record(size);
+                return Optional.empty();
+            }
+
+            processedBytes.record(processed.length);
+            System.out.println(String.format(
+                "학생증 이미지 전처리 완료: %d bytes -> %d bytes",
+                size, processed.length
+            ));
+            return Optional.of(processed);
+
+        } catch (TaskRejectedException e) {
+            System.out.println("이미지 전처리 풀 포화 - 원본 이미지로 진행");
+        } catch (TimeoutException e) {
+            // 시간 초과한 작업이 전처리 스레드를 계속 점유하지 않도록 중단
+            future.cancel(true);
+            System.out.println("이미지 전처리 시간 초과 - 원본 이미지로 진행");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.out.println("이미지 전처리 실패 - 원본 이미지로 진행: " + e.getMessage());
+        }
+
+        fallbackCounter.increment();
+        processedBytes.record(size);
+        return Optional.empty();
+    }
+
+    /**
+     * 디코딩 → 축소/흑백 변환 → JPEG 인코딩
+     * @return 디코딩할 수 없는 형식이거나 픽셀 수 상한을 넘으면 null
+     */
+    private byte[] encode(InputStreamSource studentCard) throws IOException {
+        BufferedImage source = decode(studentCard);
+        if (source == null) {
+            return null;
+        }
+
+        BufferedImage gray = scaleToGray(source);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(gray, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 헤더의 가로/세로 크기를 먼저 확인하고 상한 이내일 때만 픽셀 디코딩
+     */
+    private BufferedImage decode(InputStreamSource studentCard) throws IOException {
+        try (InputStream in = studentCard.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    System.out.println(String.format(
+                        "학생증 이미지 크기 초과 - 디코딩 생략: %dx%d",
+                        reader.getWidth(0), reader.getHeight(0)
+                    ));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하가 되도록 축소하면서 흑백으로 변환 (확대는 하지 않음)
+     * 큰 비율로 한 번에 줄이면 글자가 뭉개지므로 절반씩 단계적으로 축소
+     */
+    private BufferedImage scaleToGray(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, BufferedImage.TYPE_INT_RGB);
+        }
+        return draw(current, targetWidth, targetHeight, BufferedImage.TYPE_BYTE_GRAY);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, int imageType) {
+        BufferedImage target = new BufferedImage(width, height, imageType);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setBackground(Color.WHITE); // 투명 PNG 배경을 흰색으로
+            g.clearRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,367 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.StudentCardOcrResult;
+import com.cloudproject.community_backend.dto.VerificationJobResponse;
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.entity.VerificationJobStatus;
+import com.cloudproject.community_backend.repository.SchoolRepository;
+import com.cloudproject.community_backend.repository.UserRepository;
+import com.cloudproject.community_backend.service.OcrSpaceOcrService.PreparedStudentCard;
+import com.cloudproject.community_backend.service.SchoolNameIndex.SchoolMatch;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학생증 인증 작업 서비스
+ * - 요청 시 작업 ID만 즉시 반환하고, OCR 호출과 결과 반영은 전용 스레드 풀에서 처리
+ * - 작업 상태는 메모리에 보관하며 완료 후 일정 시간이 지나면 정리
+ * - 작업은 접수한 사용자(선배 인증) 또는 접수 응답의 조회 키(회원가입)로만 조회 가능
+ * - 요청 스레드는 업로드를 임시 파일로 옮기기만 하고, 해시/전처리/OCR은 모두 작업 스레드에서 처리
+ */
+@Service
+public class StudentCardVerificationService {
+
+    /**
+     * 완료된 작업 보관 시간 (분)
+     */
+    private static final long JOB_RETENTION_MINUTES = 30;
+
+    /**
+     * 상태와 관계없이 작업을 보관할 최대 시간 (분)
+     * 작업 스레드가 멈추거나 완료를 기록하지 못해 PENDING/RUNNING에 남은 작업도 정리
+     */
+    private static final long JOB_MAX_AGE_MINUTES = 60;
+
+    private final OcrSpaceOcrService ocrSpaceOcrService;
+    private final UserRepository userRepository;
+    private final SchoolRepository schoolRepository;
+    private final SchoolNameIndex schoolNameIndex;
+    private final ThreadPoolTaskExecutor executor;
+
+    private static final SecureRandom ACCESS_KEY_RANDOM = new SecureRandom();
+
+    private final Map<String, VerificationJob> jobs = new ConcurrentHashMap<>();
+
+    public StudentCardVerificationService(
+        OcrSpaceOcrService ocrSpaceOcrService,
+        UserRepository userRepository,
+        SchoolRepository schoolRepository,
+        SchoolNameIndex schoolNameIndex,
+        @Qualifier("ocrVerificationExecutor") ThreadPoolTaskExecutor executor
+    ) {
+        this.ocrSpaceOcrService = ocrSpaceOcrService;
+        this.userRepository = userRepository;
+        this.schoolRepository = schoolRepository;
+        this.schoolNameIndex = schoolNameIndex;
+        this.executor = executor;
+    }
+
+    /**
+     * 학생증 OCR 선배 인증 작업 접수
+     */
+    public VerificationJobResponse submitSeniorVerification(Long userId, MultipartFile studentIdImage) throws IOException {
+        FileSystemResource image = ocrSpaceOcrService.detach(studentIdImage);
+        VerificationJob job = new VerificationJob(userId, null);
+        job.userId = userId;
+        return submit(job, image, () -> runSeniorVerification(job, prepare(image)));
+    }
+
+    /**
+     * 학생증 인증 회원가입 작업 접수
+     * @param encodedPassword 이미 암호화된 비밀번호 (평문을 메모리에 보관하지 않음)
+     */
+    public VerificationJobResponse submitRegistration(
+        String email,
+        String encodedPassword,
+        String username,
+        String schoolName,
+        MultipartFile studentCard
+    ) throws IOException {
+        FileSystemResource image = ocrSpaceOcrService.detach(studentCard);
+        VerificationJob job = new VerificationJob(null, newAccessKey());
+        return submit(job, image, () -> runRegistration(job, prepare(image), email, encodedPassword, username, schoolName));
+    }
+
+    /**
+     * 작업 상태 조회 (접수한 사용자 또는 조회 키가 맞을 때만, 아니면 없는 작업과 같게 처리)
+     * @param requesterId 로그인 사용자 ID (없으면 null)
+     * @param accessKey 회원가입 작업 접수 응답의 조회 키 (없으면 null)
+     */
+    public Optional<VerificationJobResponse> getJob(String jobId, Long requesterId, String accessKey) {
+        return Optional.ofNullable(jobs.get(jobId))
+            .filter(job -> job.isAccessibleBy(requesterId, accessKey))
+            .map(job -> job.toResponse(false));
+    }
+
+    /**
+     * 완료 후 보관 시간이 지난 작업과, 최대 보관 시간을 넘긴 미완료 작업 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime completedThreshold = now.minusMinutes(JOB_RETENTION_MINUTES);
+        LocalDateTime submittedThreshold = now.minusMinutes(JOB_MAX_AGE_MINUTES);
+        jobs.values().removeIf(job ->
+            (job.completedAt != null && job.completedAt.isBefore(completedThreshold))
+                || job.submittedAt.isBefore(submittedThreshold));
+    }
+
+    /**
+     * 작업 스레드에서 해시 계산 + 캐시 확인 + 전처리
+     */
+    private PreparedStudentCard prepare(Resource image) {
+        try {
+            return ocrSpaceOcrService.prepare(image);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param image 작업이 끝나면(또는 접수가 거절되면) 삭제할 임시 이미지 파일
+     */
+    private VerificationJobResponse submit(VerificationJob job, FileSystemResource image, Runnable task) {
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> {
+                job.status = VerificationJobStatus.RUNNING;
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    job.fail("학생증 인증 처리 중 오류가 발생했습니다. 다시 시도해주세요.");
+                } finally {
+                    ocrSpaceOcrService.discard(image);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            ocrSpaceOcrService.discard(image);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "인증 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.toResponse(true);
+    }
+
+    private static String newAccessKey() {
+        byte[] bytes = new byte[32];
+        ACCESS_KEY_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void runSeniorVerification(VerificationJob job, PreparedStudentCard card) {
+        StudentCardOcrResult ocrResult = ocrSpaceOcrService.recognizeStudentCard(card);
+        Integer admissionYear = ocrResult.getAdmissionYear();
+        job.admissionYear = admissionYear;
+
+        if (admissionYear == null) {
+            job.fail("학생증에서 입학년도를 인식할 수 없습니다. 다시 시도해주세요.");
+            return;
+        }
+
+        // 입학년도로 학년 계산
+        Integer grade = ocrSpaceOcrService.calculateGradeFromYear(admissionYear);
+        if (grade == null || grade < 2) {
+            job.fail("선배 인증은 2학년 이상만 가능합니다. 추출된 입학년도: " + admissionYear);
+            return;
+        }
+
+        User user = userRepository.findById(job.userId).orElse(null);
+        if (user == null) {
+            job.fail("사용자를 찾을 수 없습니다");
+            return;
+        }
+
+        // 선배 인증 완료
+        user.setGrade(grade);
+        user.setIsSeniorVerified(true);
+        user.setSeniorVerifiedAt(LocalDateTime.now());
+        userRepository.save(user);
+
+        System.out.println(String.format(
+            "OCR 선배 인증 완료 - 사용자: %s, 입학년도: %d, 학년: %d",
+            user.getUsername(), admissionYear, grade
+        ));
+
+        job.grade = grade;
+        job.isSeniorVerified = true;
+        job.succeed(String.format("선배 인증이 완료되었습니다. 학년: %d학년 (입학년도: %d)", grade, admissionYear));
+    }
+
+    private void runRegistration(
+        VerificationJob job,
+        PreparedStudentCard card,
+        String email,
+        String encodedPassword,
+        String username,
+        String schoolName
+    ) {
+        StudentCardOcrResult ocrResult = ocrSpaceOcrService.recognizeStudentCard(card);
+        String recognizedSchool = ocrResult.getSchoolName();
+        System.out.println("OCR 반환 학교명: " + recognizedSchool);
+
+        // 입력한 학교명과 OCR 학교명을 각각 등록된 학교에 매칭
+        Optional<SchoolMatch> inputMatch = schoolNameIndex.bestMatch(schoolName, SchoolNameIndex.MIN_MATCH_SCORE);
+        Optional<SchoolMatch> ocrMatch = schoolNameIndex.bestMatch(recognizedSchool, SchoolNameIndex.MIN_MATCH_SCORE);
+
+        // 입력값과 OCR 결과가 직접 비슷하거나, 같은 학교(한글명/영문명)로 매칭되면 인증
+        boolean sameSchool = inputMatch.isPresent() && ocrMatch.isPresent()
+            && inputMatch.get().schoolId().equals(ocrMatch.get().schoolId());
+        if (!sameSchool && SchoolNameIndex.similarity(schoolName, recognizedSchool) < SchoolNameIndex.MIN_MATCH_SCORE) {
+            job.fail("학교 인증 실패. 입력한 학교명: " + schoolName + ", OCR 결과: " + recognizedSchool);
+            return;
+        }
+
+        // 접수 이후 같은 이메일로 가입되었을 수 있으므로 다시 확인
+        if (userRepository.findByEmail(email).isPresent()) {
+            job.fail("이미 가입된 이메일입니다.");
+            return;
+        }
+
+        // OCR 결과의 입학년도로 학년 계산
+        Integer admissionYear = ocrResult.getAdmissionYear();
+        Integer grade = null;
+        boolean isSenior = false;
+
+        if (admissionYear != null) {
+            grade = ocrSpaceOcrService.calculateGradeFromYear(admissionYear);
+            if (grade != null && grade >= 2) {
+                isSenior = true;
+            }
+            System.out.println("OCR 입학년도: " + admissionYear + ", 계산된 학년: " + grade);
+        } else {
+            System.out.println("입학년도 추출 실패 - 학년 정보 없이 가입 진행");
+        }
+
+        // 유사도 인덱스로 기존 학교 조회 (오타/OCR 오차로 중복 학교가 생기지 않도록, 없을 때만 생성)
+        School school = inputMatch
+            .flatMap(match -> schoolRepository.findById(match.schoolId()))
+            .orElseGet(() -> schoolRepository.save(new School(null, schoolName, null, null)));
+
+        // OCR 학교명이 입력한 학교명과 직접 일치할 때만 별칭으로 기록 (검증되지 않은 OCR 원문이 학교명으로 굳지 않도록)
+        boolean verifiedAlias = ocrResult.isRecognized()
+            && SchoolNameIndex.similarity(schoolName, recognizedSchool) >= SchoolNameIndex.MIN_MATCH_SCORE;
+        if (school.getEnglishName() == null && verifiedAlias) {
+            school.setEnglishName(recognizedSchool);
+            school = schoolRepository.save(school);
+        }
+        schoolNameIndex.add(school);
+
+        // 가입 진행
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(encodedPassword);
+        user.setUsername(username);
+        user.setSchool(school);
+        user.setGrade(grade);
+        user.setIsSeniorVerified(isSenior);
+        if (isSenior) {
+            user.setSeniorVerifiedAt(LocalDateTime.now());
+        }
+
+        User savedUser = userRepository.save(user);
+
+        String message = "회원가입 완료!";
+        if (grade != null) {
+            message += " 학년: " + grade + "학년";
+            if (isSenior) {
+                message += " (선배 인증 완료)";
+            }
+        }
+
+        job.userId = savedUser.getId();
+        job.admissionYear = admissionYear;
+        job.grade = grade;
+        job.isSeniorVerified = isSenior;
+        job.succeed(message);
+    }
+
+    /**
+     * 메모리에 보관되는 작업 상태
+     * 작업 스레드가 값을 채운 뒤 status/completedAt을 마지막에 기록
+     */
+    private static final class VerificationJob {
+        private final String id = UUID.randomUUID().toString();
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        /**
+         * 접수한 사용자 ID (선배 인증) / 조회 키 (회원가입, 가입 전이라 사용자가 없음)
+         */
+        private final Long ownerId;
+        private final String accessKey;
+
+        private volatile VerificationJobStatus status = VerificationJobStatus.PENDING;
+        private volatile String message = "학생증 인증 요청이 접수되었습니다";
+        private volatile Long userId;
+        private volatile Integer admissionYear;
+        private volatile Integer grade;
+        private volatile Boolean isSeniorVerified;
+        private volatile LocalDateTime completedAt;
+
+        private VerificationJob(Long ownerId, String accessKey) {
+            this.ownerId = ownerId;
+            this.accessKey = accessKey;
+        }
+
+        boolean isAccessibleBy(Long requesterId, String key) {
+            if (ownerId != null) {
+                return ownerId.equals(requesterId);
+            }
+            return accessKey != null && key != null && MessageDigest.isEqual(
+                accessKey.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        void succeed(String message) {
+            complete(VerificationJobStatus.SUCCEEDED, message);
+        }
+
+        void fail(String message) {
+            complete(VerificationJobStatus.FAILED, message);
+        }
+
+        private void complete(VerificationJobStatus status, String message) {
+            this.message = message;
+            this.completedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        /**
+         * @param includeAccessKey 접수 응답에만 조회 키 포함
+         */
+        VerificationJobResponse toResponse(boolean includeAccessKey) {
+            return VerificationJobResponse.builder()
+                .jobId(id)
+                .accessKey(includeAccessKey ? accessKey : null)
+                .status(status)
+                .message(message)
+                .userId(userId)
+                .admissionYear(admissionYear)
+                .grade(grade)
+                .isSeniorVerified(isSeniorVerified)
+                .submittedAt(submittedAt)
+                .completedAt(completedAt)
+                .build();
+        }
+    }
+}
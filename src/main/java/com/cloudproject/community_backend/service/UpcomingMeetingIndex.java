@@ -0,0 +1,206 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.KeysetCursor;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 다가오는 모임 인덱스 (앞으로 windowDays일 안의 모임을 일정 순으로 메모리에 보관)
+ * - 일정 순 조회는 DB 없이 정렬 맵의 tailMap으로 응답
+ * - 모임 작성/참여 인원 변경은 해당 게시물만 다시 조회해 반영, 삭제/블라인드는 제거
+ * - 주기 작업이 지난 모임을 빼고, 새로 기간 안에 들어온 구간만 추가로 적재
+ */
+@Service
+public class UpcomingMeetingIndex {
+
+    /**
+     * 적재 시 한 번에 조회할 모임 수
+     */
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final int windowDays;
+
+    /**
+     * (일정, 게시물 ID) 순 정렬 맵
+     */
+    private final NavigableMap<MeetingKey, PostSummaryResponse> meetings = new ConcurrentSkipListMap<>();
+
+    /**
+     * 게시물 ID -> 정렬 키 (갱신/삭제 시 기존 항목 위치)
+     */
+    private final Map<Long, MeetingKey> keysByPost = new ConcurrentHashMap<>();
+
+    /**
+     * 적재가 끝난 구간의 끝 (이 시각 이전 모임은 모두 인덱스에 있음)
+     */
+    private volatile LocalDateTime loadedUntil;
+
+    private record MeetingKey(LocalDateTime schedule, long postId) implements Comparable<MeetingKey> {
+        private static final Comparator<MeetingKey> ORDER = Comparator
+            .comparing(MeetingKey::schedule)
+            .thenComparingLong(MeetingKey::postId);
+
+        @Override
+        public int compareTo(MeetingKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    public UpcomingMeetingIndex(
+        PostRepository postRepository,
+        @Value("${meeting.upcoming.window-days:14}") int windowDays
+    ) {
+        this.postRepository = postRepository;
+        this.windowDays = windowDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        meetings.clear();
+        keysByPost.clear();
+        LocalDateTime until = now.plusDays(windowDays);
+        // 적재 중 작성된 모임도 put에서 받아들이도록 구간 끝을 먼저 갱신
+        loadedUntil = until;
+        load(now, until);
+        System.out.println("다가오는 모임 인덱스 적재 완료: " + meetings.size() + "건");
+    }
+
+    /**
+     * 지난 모임 제거 + 새로 기간 안에 들어온 구간만 추가 적재
+     */
+    @Scheduled(
+        fixedDelayString = "${meeting.upcoming.refresh-interval-ms:600000}",
+        initialDelayString = "${meeting.upcoming.refresh-interval-ms:600000}"
+    )
+    public void advance() {
+        LocalDateTime now = LocalDateTime.now();
+        NavigableMap<MeetingKey, PostSummaryResponse> past = meetings.headMap(new MeetingKey(now, Long.MIN_VALUE), false);
+        past.keySet().forEach(key -> keysByPost.remove(key.postId(), key));
+        past.clear();
+
+        LocalDateTime from = loadedUntil != null && loadedUntil.isAfter(now) ? loadedUntil : now;
+        LocalDateTime until = now.plusDays(windowDays);
+        loadedUntil = until;
+        load(from, until);
+    }
+
+    /**
+     * 일정 순 다가오는 모임
+     * @param after 이전 페이지 마지막 모임의 (일정, ID) - createdAt 자리에 일정 시각 (첫 페이지는 null)
+     */
+    public List<PostSummaryResponse> getUpcoming(KeysetCursor after, int limit) {
+        MeetingKey from = new MeetingKey(LocalDateTime.now(), Long.MIN_VALUE);
+        if (after != null) {
+            MeetingKey cursor = new MeetingKey(after.createdAt(), after.id());
+            if (cursor.compareTo(from) > 0) {
+                from = cursor;
+            }
+        }
+
+        List<PostSummaryResponse> result = new ArrayList<>(limit);
+        for (PostSummaryResponse meeting : meetings.tailMap(from, false).values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(meeting);
+        }
+        return result;
+    }
+
+    /**
+     * 게시물 하나를 DB에서 다시 읽어 반영 (작성, 참여 인원 변경 시)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영
+     */
+    public void refresh(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload(postId);
+                }
+            });
+        } else {
+            reload(postId);
+        }
+    }
+
+    /**
+     * 인덱스에서 제거 (삭제/블라인드 시, 모임이 아니면 아무 일도 없음)
+     */
+    public void remove(Long postId) {
+        MeetingKey key = keysByPost.remove(postId);
+        if (key != null) {
+            meetings.remove(key);
+        }
+    }
+
+    private void reload(Long postId) {
+        List<PostSummaryResponse> found = postRepository.findSummariesByIdIn(List.of(postId));
+        if (found.isEmpty()) {
+            remove(postId);
+            return;
+        }
+        put(found.get(0));
+    }
+
+    private void put(PostSummaryResponse post) {
+        PostSummaryResponse.Meeting meeting = post.getMeeting();
+        LocalDateTime until = loadedUntil;
+        if (meeting == null || meeting.schedule() == null || post.isBad()
+            || meeting.schedule().isBefore(LocalDateTime.now())
+            || (until != null && !meeting.schedule().isBefore(until))) {
+            // 기간 밖으로 옮겨졌거나 블라인드된 모임은 제거
+            remove(post.getId());
+            return;
+        }
+
+        MeetingKey key = new MeetingKey(meeting.schedule(), post.getId());
+        MeetingKey previous = keysByPost.put(post.getId(), key);
+        if (previous != null && !previous.equals(key)) {
+            meetings.remove(previous);
+        }
+        meetings.put(key, post);
+    }
+
+    /**
+     * [from, until) 구간 모임을 일정 순 keyset 배치로 적재
+     */
+    private void load(LocalDateTime from, LocalDateTime until) {
+        if (!from.isBefore(until)) {
+            return;
+        }
+        PageRequest page = PageRequest.of(0, LOAD_BATCH_SIZE);
+        List<PostSummaryResponse> batch = postRepository.findMeetingsBetween(from, until, page);
+        while (!batch.isEmpty()) {
+            for (PostSummaryResponse post : batch) {
+                MeetingKey key = new MeetingKey(post.getMeeting().schedule(), post.getId());
+                keysByPost.put(post.getId(), key);
+                meetings.put(key, post);
+            }
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            PostSummaryResponse last = batch.get(batch.size() - 1);
+            batch = postRepository.findMeetingsAfter(last.getMeeting().schedule(), last.getId(), until, page);
+        }
+    }
+}
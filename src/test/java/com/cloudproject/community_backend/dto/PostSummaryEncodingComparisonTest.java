@@ -0,0 +1,98 @@
+package com.cloudproject.community_backend.dto;
+
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 페이지 응답의 JSON / JSON+gzip / CBOR / Smile 크기와 직렬화 시간 비교
+ */
+class PostSummaryEncodingComparisonTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int ROUNDS = 2_000;
+
+    @Test
+    void binaryEncodingsAreSmallerThanJson() throws IOException {
+        CursorPageResponse<PostSummaryResponse> page = CursorPageResponse.of(feedPage(), "cursor");
+
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+        byte[] jsonBytes = json.writeValueAsBytes(page);
+        byte[] gzipBytes = gzip(jsonBytes);
+        byte[] cborBytes = cbor.writeValueAsBytes(page);
+        byte[] smileBytes = smile.writeValueAsBytes(page);
+
+        System.out.println(String.format(
+            "피드 %d건 응답 크기 - JSON: %dB, JSON+gzip: %dB, CBOR: %dB, Smile: %dB",
+            PAGE_SIZE, jsonBytes.length, gzipBytes.length, cborBytes.length, smileBytes.length
+        ));
+        System.out.println(String.format(
+            "직렬화 평균 시간 - JSON: %dus, JSON+gzip: %dus, CBOR: %dus, Smile: %dus",
+            averageMicros(() -> json.writeValueAsBytes(page)),
+            averageMicros(() -> gzip(json.writeValueAsBytes(page))),
+            averageMicros(() -> cbor.writeValueAsBytes(page)),
+            averageMicros(() -> smile.writeValueAsBytes(page))
+        ));
+
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+        assertThat(gzipBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    private List<PostSummaryResponse> feedPage() {
+        LocalDateTime base = LocalDateTime.of(2025, 11, 1, 9, 0);
+        List<PostSummaryResponse> rows = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            PostBoardType boardType = PostBoardType.values()[i % PostBoardType.values().length];
+            rows.add(new PostSummaryResponse(
+                (long) (1000 - i), boardType, "게시물 제목 " + i,
+                (long) i, "user" + i, null,
+                i % 4 == 0, false, false,
+                i * 3L, i % 5, i * 2L, i * 40L, base.minusMinutes(i),
+                base.plusDays(7), "본관 3층 세미나실", 10, i % 10,
+                "수학", i % 2 == 0
+            ));
+        }
+        return rows;
+    }
+
+    private long averageMicros(Encoder encoder) throws IOException {
+        // JIT 워밍업
+        for (int i = 0; i < ROUNDS; i++) {
+            encoder.encode();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encoder.encode();
+        }
+        return (System.nanoTime() - startedAt) / ROUNDS / 1_000;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        Object encode() throws IOException;
+    }
+}
@@ -0,0 +1,436 @@
+package com.cloudproject.community_backend.repository;
+
+import com.cloudproject.community_backend.dto.CommentExportRow;
+import com.cloudproject.community_backend.dto.CommentLikeState;
+import com.cloudproject.community_backend.dto.CommentViewResponse;
+import com.cloudproject.community_backend.dto.PostDetailResponse;
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.dto.QuestionCategoryCount;
+import com.cloudproject.community_backend.entity.Comment;
+import com.cloudproject.community_backend.entity.CommentLike;
+import com.cloudproject.community_backend.entity.MeetingPostDetail;
+import com.cloudproject.community_backend.entity.Post;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.entity.QuestionPostDetail;
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시물 피드/상세 조회의 쿼리 수 검증 (N+1 방지)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostRepositoryQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long meetingPostId;
+    private Long schoolId;
+
+    @BeforeEach
+    void setUp() {
+        School school = new School(null, "테스트고등학교", null, LocalDateTime.now());
+        entityManager.persist(school);
+        schoolId = school.getId();
+
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            User author = new User();
+            author.setEmail("user" + i + "@test.com");
+            author.setUsername("user" + i);
+            author.setPassword("password");
+            author.setSchool(school);
+            entityManager.persist(author);
+
+            Post post = new Post();
+            post.setTitle("게시물 " + i);
+            post.setContent("내용 " + i);
+            post.setAuthor(author);
+            post.setSchoolId(school.getId());
+            post.setAuthorDisplayName(author.getUsername());
+            post.setCreatedAt(base.plusMinutes(i));
+
+            if (i % 3 == 0) {
+                post.setBoardType(PostBoardType.MEETING);
+                MeetingPostDetail meeting = new MeetingPostDetail();
+                meeting.setPost(post);
+                meeting.setSchedule(base.plusDays(7));
+                meeting.setLocation("본관");
+                meeting.setCapacity(10);
+                post.setMeetingDetails(meeting);
+            } else if (i % 3 == 1) {
+                post.setBoardType(PostBoardType.QUESTION);
+                QuestionPostDetail question = new QuestionPostDetail();
+                question.setPost(post);
+                question.setCategoryName("수학");
+                post.setQuestionDetails(question);
+            } else {
+                post.setBoardType(PostBoardType.TALK);
+            }
+            entityManager.persist(post);
+
+            if (post.getBoardType() == PostBoardType.MEETING) {
+                meetingPostId = post.getId();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void feedPageRunsSingleQuery() {
+        List<PostSummaryResponse> page = postRepository.findFeed(PageRequest.of(0, PAGE_SIZE + 1));
+        PostSummaryResponse last = page.get(PAGE_SIZE - 1);
+        List<PostSummaryResponse> next = postRepository.findFeedAfter(
+            last.getCreatedAt(), last.getId(), PageRequest.of(0, PAGE_SIZE + 1)
+        );
+
+        assertThat(page).hasSize(PAGE_SIZE + 1);
+        assertThat(next).hasSize(PAGE_SIZE);
+        assertThat(page.get(0).getCreatedAt()).isAfter(page.get(1).getCreatedAt());
+        assertThat(page).anyMatch(post -> post.getMeeting() != null && post.getMeeting().capacity() == 10);
+        assertThat(page).anyMatch(post -> post.getQuestion() != null && "수학".equals(post.getQuestion().categoryName()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void boardFeedPageRunsSingleQuery() {
+        List<PostSummaryResponse> page = postRepository.findFeedByBoardType(
+            PostBoardType.MEETING, PageRequest.of(0, PAGE_SIZE + 1)
+        );
+
+        assertThat(page).isNotEmpty().allMatch(post -> post.getBoardType() == PostBoardType.MEETING);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void detailRunsSingleQuery() {
+        PostDetailResponse detail = postRepository.findDetailById(meetingPostId).orElseThrow();
+
+        assertThat(detail.getContent()).startsWith("내용");
+        assertThat(detail.getAuthorName()).startsWith("user");
+        assertThat(detail.getMeeting().location()).isEqualTo("본관");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void boardEntitiesLoadWithFetchPlan() {
+        List<Post> posts = postRepository.findByBoardType(PostBoardType.MEETING);
+
+        assertThat(posts).isNotEmpty();
+        posts.forEach(post -> {
+            assertThat(post.getAuthor().getUsername()).startsWith("user");
+            assertThat(post.getMeetingDetails().getCapacity()).isEqualTo(10);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entityDetailLoadsWithFetchPlan() {
+        Post post = postRepository.findWithDetailsById(meetingPostId).orElseThrow();
+
+        assertThat(post.getAuthor().getEmail()).endsWith("@test.com");
+        assertThat(post.getMeetingDetails().getLocation()).isEqualTo("본관");
+        assertThat(post.getQuestionDetails()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void versionLookupRunsSingleQueryAndCountersBumpIt() {
+        long before = postRepository.findVersionById(meetingPostId).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        postRepository.adjustCommentCount(meetingPostId, 1);
+        postRepository.adjustLikeCounts(meetingPostId, 1, 0);
+        postRepository.bumpVersion(meetingPostId);
+
+        assertThat(postRepository.findVersionById(meetingPostId)).contains(before + 3);
+    }
+
+    @Test
+    void schoolFeedPageRunsSingleQuery() {
+        List<PostSummaryResponse> page = postRepository.findSchoolFeedByBoardType(
+            schoolId, PostBoardType.QUESTION, PageRequest.of(0, PAGE_SIZE + 1)
+        );
+
+        assertThat(page).isNotEmpty().allMatch(post -> post.getBoardType() == PostBoardType.QUESTION);
+        assertThat(postRepository.findSchoolFeed(schoolId + 1, PageRequest.of(0, PAGE_SIZE))).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void meetingRangePagesByScheduleThenId() {
+        LocalDateTime from = LocalDateTime.now();
+        LocalDateTime to = from.plusDays(14);
+
+        List<PostSummaryResponse> first = postRepository.findMeetingsBetween(from, to, PageRequest.of(0, 10));
+        PostSummaryResponse last = first.get(first.size() - 1);
+        List<PostSummaryResponse> rest = postRepository.findMeetingsAfter(
+            last.getMeeting().schedule(), last.getId(), to, PageRequest.of(0, 10)
+        );
+
+        assertThat(first).hasSize(10).allMatch(post -> post.getBoardType() == PostBoardType.MEETING);
+        assertThat(rest).hasSize(4).allMatch(post -> post.getId() > last.getId());
+        assertThat(postRepository.findMeetingsBetween(to, to.plusDays(1), PageRequest.of(0, 10))).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void categoryFeedPagesByPostIdAndFacetsGroupBySchool() {
+        List<PostSummaryResponse> first = postRepository.findQuestionFeedByCategory("수학", PageRequest.of(0, 10));
+        List<PostSummaryResponse> rest = postRepository.findSchoolQuestionFeedByCategoryAfter(
+            schoolId, "수학", first.get(first.size() - 1).getId(), PageRequest.of(0, 10)
+        );
+        List<QuestionCategoryCount> counts = postRepository.countQuestionsByCategory();
+
+        assertThat(first).hasSize(10).allMatch(post -> post.getBoardType() == PostBoardType.QUESTION);
+        assertThat(first.get(0).getId()).isGreaterThan(first.get(1).getId());
+        assertThat(rest).hasSize(3);
+        assertThat(counts).containsExactly(new QuestionCategoryCount(schoolId, "수학", 13));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void backfillCopiesAuthorSchool() {
+        entityManager.createQuery("update Post p set p.schoolId = null").executeUpdate();
+
+        int updated = postRepository.backfillSchoolIds(0L, postRepository.findMaxId());
+
+        assertThat(updated).isEqualTo(PAGE_SIZE * 2);
+        assertThat(postRepository.findSchoolFeed(schoolId, PageRequest.of(0, PAGE_SIZE * 2))).hasSize(PAGE_SIZE * 2);
+    }
+
+    @Test
+    void postCommentsAndReactionsLoadInTwoQueries() {
+        Post post = entityManager.find(Post.class, meetingPostId);
+        User reader = post.getAuthor();
+        Comment parent = null;
+        for (int i = 0; i < 10; i++) {
+            Comment comment = new Comment();
+            comment.setContent("댓글 " + i);
+            comment.setAuthor(reader);
+            comment.setAuthorName(reader.getUsername());
+            comment.setPost(post);
+            comment.setParent(i % 2 == 1 ? parent : null);
+            entityManager.persist(comment);
+            if (i % 2 == 0) {
+                parent = comment;
+                CommentLike like = new CommentLike();
+                like.setComment(comment);
+                like.setUser(reader);
+                like.setLiked(true);
+                entityManager.persist(like);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CommentViewResponse> comments = commentRepository.findViewsByPostId(meetingPostId);
+        List<CommentLikeState> states = commentLikeRepository.findStatesByPostIdAndUserEmail(meetingPostId, reader.getEmail());
+
+        assertThat(comments).hasSize(10);
+        assertThat(comments).filteredOn(comment -> comment.getParentId() != null).hasSize(5);
+        assertThat(states).hasSize(5).allMatch(CommentLikeState::liked);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void commentThreadPageLoadsRootsAndRepliesInTwoQueries() {
+        Post post = entityManager.find(Post.class, meetingPostId);
+        User author = post.getAuthor();
+        for (int i = 0; i < 5; i++) {
+            Comment root = newComment(post, author, null);
+            for (int j = 0; j < i; j++) {
+                newComment(post, author, root);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CommentViewResponse> roots = commentRepository.findRootViews(meetingPostId, PageRequest.of(0, 3));
+        List<Long> rootIds = roots.stream().map(CommentViewResponse::getId).toList();
+        List<CommentViewResponse> replies = commentRepository.findReplyViews(meetingPostId, rootIds, 10);
+        List<CommentViewResponse> limited = commentRepository.findReplyViews(meetingPostId, rootIds, 1);
+        List<CommentViewResponse> more = commentRepository.findRootViewsAfter(
+            meetingPostId, roots.get(2).getId(), PageRequest.of(0, 3)
+        );
+
+        assertThat(roots).hasSize(3).allMatch(comment -> comment.getParentId() == null);
+        assertThat(replies).hasSize(0 + 1 + 2);
+        // 부모마다 작성순 첫 대댓글만
+        assertThat(limited).hasSize(2)
+            .extracting(CommentViewResponse::getParentId).containsExactly(rootIds.get(1), rootIds.get(2));
+        assertThat(limited.get(1).getId()).isEqualTo(replies.get(1).getId());
+        assertThat(more).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        statistics.clear();
+        List<Comment> entities = commentRepository.findByPostId(meetingPostId);
+        assertThat(entities).hasSize(15);
+        entities.forEach(comment -> assertThat(comment.getAuthor().getUsername()).startsWith("user"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void commentListPagesWithKeysetCursors() {
+        Post post = entityManager.find(Post.class, meetingPostId);
+        for (int i = 0; i < 7; i++) {
+            newComment(post, post.getAuthor(), null);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CommentViewResponse> first = commentRepository.findPostViews(meetingPostId, PageRequest.of(0, 5));
+        CommentViewResponse last = first.get(first.size() - 1);
+        List<CommentViewResponse> rest = commentRepository.findPostViewsAfter(
+            meetingPostId, last.getCreatedAt(), last.getId(), PageRequest.of(0, 5)
+        );
+        List<CommentViewResponse> latest = commentRepository.findLatestViews(PageRequest.of(0, 3));
+        List<CommentViewResponse> older = commentRepository.findLatestViewsBefore(latest.get(2).getId(), PageRequest.of(0, 10));
+        List<CommentExportRow> exported = commentRepository.findExportRowsAfter(first.get(0).getId(), PageRequest.of(0, 10));
+
+        assertThat(first).hasSize(5);
+        assertThat(rest).hasSize(2).allMatch(comment -> comment.getId() > last.getId());
+        assertThat(latest.get(0).getId()).isGreaterThan(latest.get(1).getId());
+        assertThat(older).hasSize(4);
+        assertThat(exported).hasSize(6).allMatch(row -> meetingPostId.equals(row.postId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void badCommentsPageNewestFirstWithoutLoadingEntities() {
+        Post post = entityManager.find(Post.class, meetingPostId);
+        for (int i = 0; i < 6; i++) {
+            Comment comment = newComment(post, post.getAuthor(), null);
+            comment.setBad(i % 2 == 0);
+            comment.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CommentViewResponse> first = commentRepository.findBadViews(PageRequest.of(0, 2));
+        CommentViewResponse last = first.get(1);
+        List<CommentViewResponse> rest = commentRepository.findBadViewsAfter(
+            last.getCreatedAt(), last.getId(), PageRequest.of(0, 2)
+        );
+
+        assertThat(first).allMatch(CommentViewResponse::isBad);
+        assertThat(first.get(0).getCreatedAt()).isAfter(first.get(1).getCreatedAt());
+        assertThat(rest).hasSize(1).allMatch(CommentViewResponse::isBad);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void commentsOfDeletedPostsAreHidden() {
+        Post post = entityManager.find(Post.class, meetingPostId);
+        Comment comment = newComment(post, post.getAuthor(), null);
+        newComment(post, post.getAuthor(), comment);
+        entityManager.flush();
+        Long commentId = comment.getId();
+
+        assertThat(commentRepository.findLatestViews(PageRequest.of(0, 10))).hasSize(2);
+        assertThat(commentRepository.findReplyViewsAfter(commentId, 0L, PageRequest.of(0, 10))).hasSize(1);
+
+        assertThat(commentRepository.findActiveById(commentId)).isPresent();
+        assertThat(commentRepository.existsActiveById(commentId)).isTrue();
+
+        post.setDeletedAt(LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(commentRepository.findActiveById(commentId)).isEmpty();
+        assertThat(commentRepository.findLatestViews(PageRequest.of(0, 10))).isEmpty();
+        assertThat(commentRepository.findLatestViewsBefore(commentId + 1, PageRequest.of(0, 10))).isEmpty();
+        assertThat(commentRepository.findReplyViewsAfter(commentId, 0L, PageRequest.of(0, 10))).isEmpty();
+        assertThat(commentRepository.existsActiveById(commentId)).isFalse();
+        assertThat(commentRepository.existsById(commentId)).isTrue();
+    }
+
+    @Test
+    void markBadKeepsCountersUpdatedAfterLoad() {
+        Post loaded = postRepository.findById(meetingPostId).orElseThrow();
+        long version = loaded.getVersion();
+
+        // 블라인드 처리 중 다른 요청의 좋아요가 먼저 반영되어도 덮어쓰지 않음
+        postRepository.adjustLikeCounts(meetingPostId, 3, 0);
+        postRepository.markBad(meetingPostId);
+        entityManager.clear();
+
+        Post reloaded = postRepository.findById(meetingPostId).orElseThrow();
+        assertThat(reloaded.isBad()).isTrue();
+        assertThat(reloaded.getLikeCount()).isEqualTo(3);
+        assertThat(reloaded.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    void reconcileTouchesOnlyDriftedPosts() {
+        postRepository.adjustLikeCounts(meetingPostId, 3, 0);
+        entityManager.clear();
+        Post drifted = postRepository.findById(meetingPostId).orElseThrow();
+        Post intact = postRepository.findById(meetingPostId - 1).orElseThrow();
+        long driftedVersion = drifted.getVersion();
+        long intactVersion = intact.getVersion();
+        entityManager.clear();
+
+        // 값이 맞는 게시물은 버전을 올리지 않음 (목록 캐시 유지)
+        assertThat(postRepository.reconcileCounts(0L, postRepository.findMaxId())).isEqualTo(1);
+        entityManager.clear();
+
+        Post reconciled = postRepository.findById(meetingPostId).orElseThrow();
+        assertThat(reconciled.getLikeCount()).isZero();
+        assertThat(reconciled.getVersion()).isGreaterThan(driftedVersion);
+        assertThat(postRepository.findById(meetingPostId - 1).orElseThrow().getVersion()).isEqualTo(intactVersion);
+    }
+
+    private Comment newComment(Post post, User author, Comment parent) {
+        Comment comment = new Comment();
+        comment.setContent("댓글");
+        comment.setAuthor(author);
+        comment.setAuthorName(author.getUsername());
+        comment.setPost(post);
+        comment.setParent(parent);
+        entityManager.persist(comment);
+        return comment;
+    }
+}
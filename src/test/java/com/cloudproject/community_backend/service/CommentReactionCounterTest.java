@@ -0,0 +1,224 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.entity.Comment;
+import com.cloudproject.community_backend.entity.CommentReaction;
+import com.cloudproject.community_backend.entity.CommentReactionCount;
+import com.cloudproject.community_backend.entity.CommentReactionType;
+import com.cloudproject.community_backend.entity.Post;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.repository.CommentReactionCountRepository;
+import com.cloudproject.community_backend.repository.CommentReactionRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import com.cloudproject.community_backend.repository.SchoolRepository;
+import com.cloudproject.community_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 리액션이 버퍼에 빠짐없이 누적되고, 일괄 반영 후에도 조회 값이 같은지 검증
+ * 삭제된 댓글의 누적분은 집계 행을 만들지 않고, 보정 작업이 실제 리액션 수로 맞추는지 검증
+ * (반영 결과를 다시 읽도록 테스트 트랜잭션 없이 실행)
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({CommentReactionCounter.class, CounterReconciliationService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentReactionCounterTest {
+
+    private static final int THREADS = 16;
+    private static final int CLICKS_PER_THREAD = 500;
+
+    @Autowired
+    private CommentReactionCounter commentReactionCounter;
+
+    @Autowired
+    private CounterReconciliationService counterReconciliationService;
+
+    @Autowired
+    private CommentReactionCountRepository commentReactionCountRepository;
+
+    @Autowired
+    private CommentReactionRepository commentReactionRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchoolRepository schoolRepository;
+
+    private User user;
+    private Long popularComment;
+    private Long quietComment;
+
+    @BeforeEach
+    void setUp() {
+        School school = schoolRepository.save(new School(null, "테스트고등학교", null, LocalDateTime.now()));
+        user = newUser(school, "user");
+
+        Post post = new Post();
+        post.setTitle("게시물");
+        post.setContent("내용");
+        post.setAuthor(user);
+        post.setBoardType(PostBoardType.TALK);
+        post = postRepository.save(post);
+
+        popularComment = newComment(post).getId();
+        quietComment = newComment(post).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentReactionCountRepository.deleteAll();
+        commentReactionRepository.deleteAll();
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        schoolRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentReactionsAreCountedBeforeAndAfterFlush() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CLICKS_PER_THREAD; i++) {
+                    commentReactionCounter.increment(popularComment, CommentReactionType.HELPFUL);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        commentReactionCounter.increment(quietComment, CommentReactionType.KIND);
+
+        long expected = (long) THREADS * CLICKS_PER_THREAD;
+        assertThat(commentReactionCounter.getCounts(popularComment)).containsEntry(CommentReactionType.HELPFUL, expected);
+
+        commentReactionCounter.flush();
+
+        List<CommentReactionCount> persisted = commentReactionCountRepository.findByCommentId(popularComment);
+        assertThat(persisted).hasSize(1);
+        assertThat(persisted.get(0).getReactionCount()).isEqualTo(expected);
+
+        // 반영 후 새 리액션은 기존 집계 행에 더해짐
+        commentReactionCounter.increment(popularComment, CommentReactionType.HELPFUL);
+        Map<CommentReactionType, Long> merged = commentReactionCounter.getCounts(popularComment);
+        assertThat(merged)
+            .containsEntry(CommentReactionType.HELPFUL, expected + 1)
+            .containsEntry(CommentReactionType.KIND, 0L);
+
+        commentReactionCounter.flush();
+        assertThat(commentReactionCountRepository.findByCommentId(popularComment).get(0).getReactionCount())
+            .isEqualTo(expected + 1);
+        assertThat(commentReactionCounter.getCounts(quietComment)).containsEntry(CommentReactionType.KIND, 1L);
+    }
+
+    @Test
+    void flushDropsReactionsOfDeletedComments() {
+        commentReactionCounter.increment(quietComment, CommentReactionType.CLEAR);
+        commentRepository.deleteById(quietComment);
+
+        commentReactionCounter.flush();
+
+        assertThat(commentReactionCountRepository.findByCommentId(quietComment)).isEmpty();
+        assertThat(commentReactionCounter.getCounts(quietComment)).containsEntry(CommentReactionType.CLEAR, 0L);
+    }
+
+    @Test
+    void reconcileRebuildsCountsFromReactionRows() {
+        User other = newUser(user.getSchool(), "other");
+        newReaction(popularComment, user, CommentReactionType.HELPFUL);
+        newReaction(popularComment, other, CommentReactionType.HELPFUL);
+        newReaction(popularComment, user, CommentReactionType.KIND);
+
+        // 어긋난 집계 행, 댓글이 사라진 집계 행
+        CommentReactionCount drifted = new CommentReactionCount(popularComment, CommentReactionType.HELPFUL);
+        drifted.setReactionCount(10);
+        commentReactionCountRepository.save(drifted);
+        CommentReactionCount orphan = new CommentReactionCount(quietComment + 100, CommentReactionType.HELPFUL);
+        orphan.setReactionCount(3);
+        commentReactionCountRepository.save(orphan);
+
+        counterReconciliationService.reconcile();
+
+        assertThat(commentReactionCounter.getCounts(popularComment))
+            .containsEntry(CommentReactionType.HELPFUL, 2L)
+            .containsEntry(CommentReactionType.KIND, 1L)
+            .containsEntry(CommentReactionType.CLEAR, 0L);
+        assertThat(commentReactionCountRepository.findByCommentId(quietComment + 100)).isEmpty();
+    }
+
+    @Test
+    void reconcileDiscardsPendingDeltaOfRecountedReactions() {
+        // 저장됐지만 아직 반영되지 않은 리액션은 다시 센 값에 포함되므로 버퍼에서 버림
+        commentReactionCounter.record(popularComment, CommentReactionType.HELPFUL, () -> {
+            newReaction(popularComment, user, CommentReactionType.HELPFUL);
+            return true;
+        });
+
+        counterReconciliationService.reconcile();
+        commentReactionCounter.flush();
+
+        assertThat(commentReactionCountRepository.findByCommentId(popularComment).get(0).getReactionCount())
+            .isEqualTo(1L);
+        assertThat(commentReactionCounter.getCounts(popularComment)).containsEntry(CommentReactionType.HELPFUL, 1L);
+    }
+
+    private User newUser(School school, String name) {
+        User user = new User();
+        user.setEmail(name + "@test.com");
+        user.setUsername(name);
+        user.setPassword("password");
+        user.setSchool(school);
+        return userRepository.save(user);
+    }
+
+    private Comment newComment(Post post) {
+        Comment comment = new Comment();
+        comment.setContent("댓글");
+        comment.setAuthor(user);
+        comment.setPost(post);
+        return commentRepository.save(comment);
+    }
+
+    private void newReaction(Long commentId, User user, CommentReactionType type) {
+        CommentReaction reaction = new CommentReaction();
+        reaction.setComment(commentRepository.getReferenceById(commentId));
+        reaction.setUser(user);
+        reaction.setType(type);
+        commentReactionRepository.save(reaction);
+    }
+}
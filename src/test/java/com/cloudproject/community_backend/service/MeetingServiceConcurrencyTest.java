@@ -0,0 +1,194 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.MeetingParticipantResponse;
+import com.cloudproject.community_backend.entity.MeetingParticipantStatus;
+import com.cloudproject.community_backend.entity.MeetingPostDetail;
+import com.cloudproject.community_backend.entity.Post;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.repository.MeetingParticipantRepository;
+import com.cloudproject.community_backend.repository.MeetingPostDetailRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import com.cloudproject.community_backend.repository.SchoolRepository;
+import com.cloudproject.community_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 참여 신청 시 정원 초과/중복 없이 처리되는지, 취소 시 대기열이 순서대로 승격되는지 검증
+ * (각 요청이 실제로 커밋되도록 테스트 트랜잭션 없이 실행)
+ */
+// 처리량 측정에 SQL 로그 출력 시간이 섞이지 않도록 SQL 로그 끔
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@Import({MeetingService.class, UpcomingMeetingIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MeetingServiceConcurrencyTest {
+
+    private static final int USERS = 300;
+    private static final int CAPACITY = 50;
+    private static final int LEAVERS = 20;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingParticipantRepository meetingParticipantRepository;
+
+    @Autowired
+    private MeetingPostDetailRepository meetingPostDetailRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchoolRepository schoolRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        School school = schoolRepository.save(new School(null, "테스트고등학교", null, LocalDateTime.now()));
+
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail("user" + i + "@test.com");
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setSchool(school);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        Post post = new Post();
+        post.setTitle("모임");
+        post.setContent("내용");
+        post.setAuthor(users.get(0));
+        post.setBoardType(PostBoardType.MEETING);
+        MeetingPostDetail meeting = new MeetingPostDetail();
+        meeting.setPost(post);
+        meeting.setSchedule(LocalDateTime.now().plusDays(7));
+        meeting.setLocation("본관");
+        meeting.setCapacity(CAPACITY);
+        post.setMeetingDetails(meeting);
+        postId = postRepository.save(post).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        meetingParticipantRepository.deleteAllInBatch();
+        postRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+        schoolRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        long elapsed = runConcurrently(users, user -> meetingService.join(postId, user));
+        System.out.println(String.format(
+            "모임 동시 참여 %d건 처리: %dms (%.0f건/초)",
+            USERS, elapsed, USERS * 1000.0 / Math.max(1, elapsed)
+        ));
+
+        assertThat(meetingPostDetailRepository.findCurrentParticipants(postId)).contains(CAPACITY);
+        assertThat(meetingParticipantRepository.countByPostIdAndStatus(postId, MeetingParticipantStatus.JOINED))
+            .isEqualTo(CAPACITY);
+        assertThat(meetingParticipantRepository.countByPostIdAndStatus(postId, MeetingParticipantStatus.WAITLISTED))
+            .isEqualTo(USERS - CAPACITY);
+
+        // 참여자 일부가 동시에 취소하면 대기열 앞에서부터 같은 수만큼 승격
+        List<MeetingParticipantResponse> before = meetingService.getParticipants(postId);
+        List<Long> joinedIds = before.stream()
+            .filter(p -> p.status() == MeetingParticipantStatus.JOINED)
+            .map(MeetingParticipantResponse::userId)
+            .limit(LEAVERS)
+            .toList();
+        List<Long> expectedPromoted = before.stream()
+            .filter(p -> p.status() == MeetingParticipantStatus.WAITLISTED)
+            .map(MeetingParticipantResponse::userId)
+            .limit(LEAVERS)
+            .toList();
+        List<User> leavers = users.stream().filter(user -> joinedIds.contains(user.getId())).toList();
+
+        runConcurrently(leavers, user -> meetingService.leave(postId, user));
+
+        List<MeetingParticipantResponse> after = meetingService.getParticipants(postId);
+        assertThat(meetingPostDetailRepository.findCurrentParticipants(postId)).contains(CAPACITY);
+        assertThat(after).hasSize(USERS - LEAVERS);
+        assertThat(after.stream().filter(p -> p.status() == MeetingParticipantStatus.JOINED))
+            .hasSize(CAPACITY)
+            .extracting(MeetingParticipantResponse::userId)
+            .containsAll(expectedPromoted)
+            .doesNotContainAnyElementsOf(joinedIds);
+    }
+
+    @Test
+    void repeatedJoinBySameUserTakesOneSeat() throws Exception {
+        User user = users.get(1);
+        runConcurrently(List.of(user, user, user, user), same -> {
+            try {
+                meetingService.join(postId, same);
+            } catch (RuntimeException e) {
+                // 동시 중복 신청은 409로 거절될 수 있음
+            }
+        });
+
+        assertThat(meetingPostDetailRepository.findCurrentParticipants(postId)).contains(1);
+        assertThat(meetingParticipantRepository.countByPostIdAndStatus(postId, MeetingParticipantStatus.JOINED))
+            .isEqualTo(1);
+    }
+
+    /**
+     * 모든 작업을 동시에 시작시켜 끝날 때까지 대기 (ms)
+     */
+    private long runConcurrently(List<User> targets, Consumer<User> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : targets) {
+                Callable<Void> task = () -> {
+                    start.await();
+                    action.accept(user);
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            long startedAt = System.currentTimeMillis();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.currentTimeMillis() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
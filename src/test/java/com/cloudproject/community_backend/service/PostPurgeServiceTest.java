@@ -0,0 +1,153 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.PostSummaryResponse;
+import com.cloudproject.community_backend.entity.Comment;
+import com.cloudproject.community_backend.entity.CommentLike;
+import com.cloudproject.community_backend.entity.MeetingPostDetail;
+import com.cloudproject.community_backend.entity.Post;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.entity.PostLike;
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.entity.User;
+import com.cloudproject.community_backend.repository.CommentLikeRepository;
+import com.cloudproject.community_backend.repository.CommentRepository;
+import com.cloudproject.community_backend.repository.PostLikeRepository;
+import com.cloudproject.community_backend.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 삭제 표시 후 조회 제외, 정리 작업의 연관 행 배치 삭제 검증
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "post.purge.batch-size=3"
+})
+@Import(PostPurgeService.class)
+class PostPurgeServiceTest {
+
+    private static final int COMMENTS = 10;
+
+    @Autowired
+    private PostPurgeService postPurgeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long postId;
+    private Long otherPostId;
+
+    @BeforeEach
+    void setUp() {
+        School school = new School(null, "테스트고등학교", null, LocalDateTime.now());
+        entityManager.persist(school);
+
+        User user = new User();
+        user.setEmail("user@test.com");
+        user.setUsername("user");
+        user.setPassword("password");
+        user.setSchool(school);
+        entityManager.persist(user);
+
+        Post post = meetingPost(user);
+        Post other = meetingPost(user);
+
+        PostLike postLike = new PostLike();
+        postLike.setPost(post);
+        postLike.setUser(user);
+        postLike.setLiked(true);
+        entityManager.persist(postLike);
+
+        Comment parent = null;
+        for (int i = 0; i < COMMENTS; i++) {
+            Comment comment = new Comment();
+            comment.setContent("댓글 " + i);
+            comment.setAuthor(user);
+            comment.setPost(post);
+            // 앞 댓글의 대댓글로 연결 (부모와 자식이 다른 배치에 걸치도록)
+            comment.setParent(parent);
+            entityManager.persist(comment);
+            parent = comment;
+
+            CommentLike like = new CommentLike();
+            like.setComment(comment);
+            like.setUser(user);
+            like.setLiked(i % 2 == 0);
+            entityManager.persist(like);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        postId = post.getId();
+        otherPostId = other.getId();
+    }
+
+    @Test
+    void deletedPostIsHiddenBeforePurge() {
+        postRepository.markDeleted(postId, LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(postRepository.findDetailById(postId)).isEmpty();
+        assertThat(postRepository.findVersionById(postId)).isEmpty();
+        assertThat(postRepository.findActiveById(postId)).isEmpty();
+        assertThat(postRepository.findFeed(PageRequest.of(0, 10)))
+            .extracting(PostSummaryResponse::getId)
+            .containsExactly(otherPostId);
+        assertThat(commentRepository.findByPostId(postId)).hasSize(COMMENTS);
+    }
+
+    @Test
+    void purgeRemovesDependentRowsInBatches() {
+        postRepository.markDeleted(postId, LocalDateTime.now());
+        entityManager.clear();
+
+        postPurgeService.purgeDeletedPosts();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(postId)).isEmpty();
+        assertThat(commentRepository.findByPostId(postId)).isEmpty();
+        assertThat(commentLikeRepository.count()).isZero();
+        assertThat(postLikeRepository.count()).isZero();
+        assertThat(postRepository.findDeletedIds(PageRequest.of(0, 10))).isEmpty();
+        assertThat(postRepository.findActiveById(otherPostId)).isPresent();
+    }
+
+    private Post meetingPost(User user) {
+        Post post = new Post();
+        post.setTitle("모임");
+        post.setContent("내용");
+        post.setAuthor(user);
+        post.setBoardType(PostBoardType.MEETING);
+
+        MeetingPostDetail meeting = new MeetingPostDetail();
+        meeting.setPost(post);
+        meeting.setSchedule(LocalDateTime.now().plusDays(7));
+        meeting.setLocation("본관");
+        meeting.setCapacity(10);
+        post.setMeetingDetails(meeting);
+
+        entityManager.persist(post);
+        return post;
+    }
+}
@@ -0,0 +1,135 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.dto.PostSearchSource;
+import com.cloudproject.community_backend.dto.PostSearchState;
+import com.cloudproject.community_backend.entity.PostBoardType;
+import com.cloudproject.community_backend.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시물 검색 인덱스: 토큰화, BM25 점수 순서, gzip 스냅샷 저장/적재, 삭제/블라인드 반영 검증
+ * (스냅샷 적재 후 DB 상태 보정 포함)
+ */
+class PostSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PostSearchIndex newIndex() {
+        return newIndex(mock(PostRepository.class));
+    }
+
+    private PostSearchIndex newIndex(PostRepository postRepository) {
+        return new PostSearchIndex(postRepository, tempDir.resolve("index.bin").toString());
+    }
+
+    /**
+     * 스냅샷 보정 시 DB에 남아 있는 게시물 상태
+     */
+    private PostRepository withStates(PostSearchState... states) {
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findSearchStatesBetween(eq(0L), anyLong(), any())).thenReturn(List.of(states));
+        return postRepository;
+    }
+
+    @Test
+    void tokenizesHangulBigramsAndWords() {
+        PostSearchIndex index = newIndex();
+        index.index(new PostSearchSource(1L, PostBoardType.TALK, "Spring부트2024 후기", "", false));
+
+        // 한글은 음절 bigram이라 부분 단어로도 검색, 영문/숫자는 단어 단위 (대소문자/전각 무시)
+        assertThat(index.search("부트", null, 10)).containsExactly(1L);
+        assertThat(index.search("SPRING", null, 10)).containsExactly(1L);
+        assertThat(index.search("ｓｐｒｉｎｇ", null, 10)).containsExactly(1L);
+        assertThat(index.search("2024", null, 10)).containsExactly(1L);
+        assertThat(index.search("sprin", null, 10)).isEmpty();
+        assertThat(index.search("  !? ", null, 10)).isEmpty();
+    }
+
+    @Test
+    void ranksTitleMatchesAndFrequentTermsHigher() {
+        PostSearchIndex index = newIndex();
+        index.index(new PostSearchSource(1L, PostBoardType.TALK, "시험 일정", "중간고사 범위 알려주세요", false));
+        index.index(new PostSearchSource(2L, PostBoardType.TALK, "급식 메뉴", "내일 중간고사 끝나고 뭐 먹지", false));
+        index.index(new PostSearchSource(3L, PostBoardType.EXAM, "중간고사 범위", "중간고사 범위 정리했습니다", false));
+        index.index(new PostSearchSource(4L, PostBoardType.TALK, "축제 공지", "다음 주 축제", false));
+
+        assertThat(index.search("중간고사 범위", null, 10)).containsExactly(3L, 1L, 2L);
+        assertThat(index.search("중간고사 범위", null, 2)).containsExactly(3L, 1L);
+        assertThat(index.search("중간고사", PostBoardType.TALK, 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void removeAndBlindExcludeFromResults() {
+        PostSearchIndex index = newIndex();
+        index.index(new PostSearchSource(1L, PostBoardType.TALK, "동아리 모집", "", false));
+        index.index(new PostSearchSource(2L, PostBoardType.TALK, "동아리 후기", "", false));
+
+        index.setBad(1L, true);
+        assertThat(index.search("동아리", null, 10)).containsExactly(2L);
+        index.setBad(1L, false);
+        assertThat(index.search("동아리", null, 10)).containsExactlyInAnyOrder(1L, 2L);
+
+        index.remove(2L);
+        assertThat(index.search("동아리", null, 10)).containsExactly(1L);
+        assertThat(index.search("후기", null, 10)).isEmpty();
+
+        // 같은 ID로 다시 색인하면 기존 토큰을 교체
+        index.index(new PostSearchSource(1L, PostBoardType.TALK, "봉사 모집", "", false));
+        assertThat(index.search("동아리", null, 10)).isEmpty();
+        assertThat(index.search("봉사", null, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void snapshotRoundTripRestoresIndex() {
+        PostSearchIndex original = newIndex();
+        original.index(new PostSearchSource(1L, PostBoardType.TALK, "시험 일정", "중간고사 범위 알려주세요", false));
+        original.index(new PostSearchSource(2L, PostBoardType.EXAM, "중간고사 범위", "중간고사 범위 정리", false));
+        original.index(new PostSearchSource(3L, PostBoardType.TALK, "중간고사 망함", "", true));
+        original.saveSnapshotIfDirty();
+        assertThat(Files.isRegularFile(tempDir.resolve("index.bin"))).isTrue();
+
+        // 스냅샷만으로 복원 (스냅샷 이후 게시물/변경 없음)
+        PostSearchIndex restored = newIndex(withStates(
+            new PostSearchState(1L, false), new PostSearchState(2L, false), new PostSearchState(3L, true)
+        ));
+        restored.rebuild();
+
+        assertThat(restored.search("중간고사 범위", null, 10))
+            .isEqualTo(original.search("중간고사 범위", null, 10))
+            .containsExactly(2L, 1L);
+        assertThat(restored.search("망함", null, 10)).isEmpty();
+        assertThat(restored.search("중간고사", PostBoardType.EXAM, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void snapshotIsReconciledWithDatabaseOnLoad() {
+        PostSearchIndex original = newIndex();
+        original.index(new PostSearchSource(1L, PostBoardType.TALK, "동아리 모집", "", false));
+        original.index(new PostSearchSource(2L, PostBoardType.TALK, "동아리 후기", "", false));
+        original.index(new PostSearchSource(3L, PostBoardType.TALK, "동아리 공지", "", true));
+        original.saveSnapshotIfDirty();
+
+        // 스냅샷 이후 2는 삭제, 1은 블라인드, 3은 블라인드 해제
+        PostSearchIndex restored = newIndex(withStates(
+            new PostSearchState(1L, true), new PostSearchState(3L, false)
+        ));
+        restored.rebuild();
+
+        // 순위 계산 전에 정리되어 limit만큼 살아 있는 게시물로 채워짐
+        assertThat(restored.search("동아리", null, 1)).containsExactly(3L);
+        assertThat(restored.search("후기", null, 10)).isEmpty();
+    }
+}
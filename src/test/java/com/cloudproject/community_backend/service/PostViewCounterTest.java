@@ -0,0 +1,101 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * 조회수 버퍼: 증가량별 일괄 반영, 반영 후 버퍼 비우기, 실패분 재시도 검증
+ */
+class PostViewCounterTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostViewCounter postViewCounter = new PostViewCounter(postRepository);
+
+    /**
+     * 증가량 -> 반영된 게시물 ID (호출 순서대로)
+     */
+    private final Map<Long, List<Long>> applied = new HashMap<>();
+
+    private void recordUpdates() {
+        doAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            long delta = invocation.getArgument(1);
+            applied.computeIfAbsent(delta, d -> new ArrayList<>()).addAll(ids);
+            return ids.size();
+        }).when(postRepository).incrementViewCounts(anyList(), anyLong());
+    }
+
+    @Test
+    void flushGroupsPostsByDelta() {
+        recordUpdates();
+        view(1L, 1);
+        view(2L, 1);
+        view(3L, 3);
+        view(4L, 1);
+
+        postViewCounter.flush();
+
+        assertThat(applied).containsOnlyKeys(1L, 3L);
+        assertThat(applied.get(1L)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(applied.get(3L)).containsExactly(3L);
+
+        // 반영된 누적분은 다시 반영하지 않음
+        applied.clear();
+        postViewCounter.flush();
+        assertThat(applied).isEmpty();
+
+        // 빈 주기를 지나 버퍼에서 제거된 뒤에도 새 조회는 누락 없이 반영
+        postViewCounter.flush();
+        view(1L, 2);
+        postViewCounter.flush();
+        assertThat(applied).containsOnlyKeys(2L);
+        assertThat(applied.get(2L)).containsExactly(1L);
+    }
+
+    @Test
+    void failedBatchIsRetriedOnNextFlush() {
+        doAnswer(invocation -> {
+            throw new QueryTimeoutException("lock wait timeout");
+        }).when(postRepository).incrementViewCounts(anyList(), anyLong());
+        view(1L, 2);
+        view(2L, 2);
+
+        postViewCounter.flush();
+        verify(postRepository).incrementViewCounts(anyList(), anyLong());
+
+        // 실패분에 새 조회를 더해 다음 주기에 한 번에 반영
+        recordUpdates();
+        view(1L, 1);
+        postViewCounter.flush();
+
+        assertThat(applied).containsOnlyKeys(2L, 3L);
+        assertThat(applied.get(3L)).containsExactly(1L);
+        assertThat(applied.get(2L)).containsExactly(2L);
+    }
+
+    @Test
+    void flushWithoutViewsDoesNotTouchDatabase() {
+        postViewCounter.flush();
+        verifyNoMoreInteractions(postRepository);
+    }
+
+    private void view(Long postId, int times) {
+        for (int i = 0; i < times; i++) {
+            postViewCounter.increment(postId);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.cloudproject.community_backend.service;
+
+import com.cloudproject.community_backend.entity.School;
+import com.cloudproject.community_backend.repository.SchoolRepository;
+import com.cloudproject.community_backend.service.SchoolNameIndex.SchoolMatch;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 학교명 n-gram 유사도: 접미사 분리, OCR 숫자/문자 혼동 보정, 최소 유사도 기준 검증
+ */
+class SchoolNameIndexTest {
+
+    @Test
+    void sameSuffixAloneDoesNotMatch() {
+        // 접미사를 분리해 고유 부분만 비교
+        assertThat(SchoolNameIndex.similarity("서울중학교", "부산중학교")).isZero();
+        assertThat(SchoolNameIndex.similarity("Seoul Middle School", "Busan Middle School")).isZero();
+        // 학교 종류가 다르면 고유 부분이 같아도 다른 학교
+        assertThat(SchoolNameIndex.similarity("서울중학교", "서울고등학교")).isZero();
+        assertThat(SchoolNameIndex.similarity("서울 중학교", "서울중학교")).isEqualTo(1.0);
+    }
+
+    @Test
+    void ocrDigitConfusionsAreFolded() {
+        assertThat(SchoolNameIndex.similarity("Seoul High School", "Seou1 High Sch00l")).isEqualTo(1.0);
+        assertThat(SchoolNameIndex.similarity("Boston University", "B0ST0N UNIVERSITY")).isEqualTo(1.0);
+        // 한글 학교명의 숫자는 그대로 비교
+        assertThat(SchoolNameIndex.similarity("서울1중학교", "서울l중학교")).isLessThan(1.0);
+    }
+
+    @Test
+    void bestMatchRespectsMinimumScore() {
+        SchoolNameIndex index = new SchoolNameIndex(mock(SchoolRepository.class));
+        index.add(new School(1L, "서울중학교", "Seoul Middle School", LocalDateTime.now()));
+        index.add(new School(2L, "부산중학교", null, LocalDateTime.now()));
+
+        // 영문 별칭과 한글명 모두로 매칭, 글자 누락이 있어도 기준 이상이면 매칭
+        assertThat(index.bestMatch("SEOUL MIDDLE SCH0OL", SchoolNameIndex.MIN_MATCH_SCORE)).map(SchoolMatch::schoolId).contains(1L);
+        assertThat(index.bestMatch("부산 중학교", SchoolNameIndex.MIN_MATCH_SCORE)).map(SchoolMatch::schoolId).contains(2L);
+        assertThat(index.bestMatch("Seoul Midle School", SchoolNameIndex.MIN_MATCH_SCORE)).map(SchoolMatch::schoolId).contains(1L);
+
+        // 일부 n-gram만 겹치는 다른 학교는 기준 미만이라 매칭되지 않음
+        String otherSchool = "Seongnam Middle School";
+        Optional<SchoolMatch> loose = index.bestMatch(otherSchool, 0.0);
+        assertThat(loose).isPresent();
+        assertThat(loose.get().score()).isLessThan(SchoolNameIndex.MIN_MATCH_SCORE);
+        assertThat(index.bestMatch(otherSchool, SchoolNameIndex.MIN_MATCH_SCORE)).isEmpty();
+    }
+}